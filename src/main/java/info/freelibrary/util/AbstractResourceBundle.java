@@ -2,9 +2,13 @@
 package info.freelibrary.util;
 
 import java.io.File;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A base class for resource bundles.
@@ -12,9 +16,21 @@ import java.util.ResourceBundle;
 abstract class AbstractResourceBundle extends ResourceBundle implements I18nResourceBundle {
 
     /**
-     * The bundle's properties.
+     * A count of the bundle reloads, which tells bundles when the templates they've resolved from their parents are
+     * out of date.
      */
-    protected final Properties myProperties;
+    private static final AtomicLong GENERATION = new AtomicLong();
+
+    /**
+     * The bundle's messages and compiled templates, which are replaced together when the bundle is reloaded.
+     */
+    private volatile Contents myContents;
+
+    /**
+     * The compiled message templates of this bundle and its parents, which is built on first use since a bundle's
+     * parent is set after it's been created.
+     */
+    private volatile Resolved myResolved;
 
     /**
      * Creates a new abstract resource bundle.
@@ -22,46 +38,32 @@ abstract class AbstractResourceBundle extends ResourceBundle implements I18nReso
      * @param aProperties Contents of the resource bundle
      */
     protected AbstractResourceBundle(final Properties aProperties) {
+        this(copy(aProperties));
+    }
+
+    /**
+     * Creates a new abstract resource bundle.
+     *
+     * @param aMessages Contents of the resource bundle
+     */
+    protected AbstractResourceBundle(final Map<String, String> aMessages) {
         super();
-        myProperties = aProperties;
+        myContents = new Contents(aMessages);
     }
 
     @Override
     protected Object handleGetObject(final String aKey) {
-        return myProperties.getProperty(aKey);
+        return myContents.myMessages.get(aKey);
     }
 
     @Override
     public int countKeys() {
-        return myProperties.size();
+        return myContents.myMessages.size();
     }
 
     @Override
     public Enumeration<String> getKeys() {
-        final Enumeration<?> enumeration = myProperties.elements();
-
-        return new Enumeration<>() {
-
-            /**
-             * Returns whether the {@link Enumeration} has more elements.
-             *
-             * @return True if the {@link Enumeration} has more elements; else, false.
-             */
-            @Override
-            public boolean hasMoreElements() {
-                return enumeration.hasMoreElements();
-            }
-
-            /**
-             * Returns the next element in the {@link Enumeration}.
-             *
-             * @return The next element in the {@link Enumeration}
-             */
-            @Override
-            public String nextElement() {
-                return (String) enumeration.nextElement();
-            }
-        };
+        return Collections.enumeration(myContents.myMessages.keySet());
     }
 
     @Override
@@ -121,9 +123,164 @@ abstract class AbstractResourceBundle extends ResourceBundle implements I18nReso
         return getString(aObject.toString());
     }
 
+    @Override
+    public MessageTemplate getTemplate(final String aKey) {
+        final MessageTemplate template = findTemplate(aKey);
+
+        if (template != null) {
+            return template;
+        }
+
+        // Let the ResourceBundle throw its usual exception if the key isn't found
+        return MessageTemplate.compile(StringUtils.normalizeWS(getString(aKey)));
+    }
+
+    @Override
+    public MessageTemplate findTemplate(final String aKey) {
+        final MessageTemplate template = getResolvedTemplates().get(aKey);
+
+        if (template == null && parent instanceof I18nResourceBundle && !(parent instanceof AbstractResourceBundle)) {
+            return ((I18nResourceBundle) parent).findTemplate(aKey);
+        }
+
+        return template;
+    }
+
     @Override
     public boolean containsKey(final String aKey) {
-        return myProperties.containsKey(aKey);
+        // Look for the key where getTemplate() does, so a key is found whenever it can be resolved
+        if (findTemplate(aKey) != null) {
+            return true;
+        }
+
+        return parent != null && !(parent instanceof I18nResourceBundle) && parent.containsKey(aKey);
     }
 
+    /**
+     * Replaces the bundle's messages with the supplied ones. Readers see either the old or the new messages, never a
+     * mix of the two.
+     *
+     * @param aProperties The new contents of the resource bundle
+     */
+    void reload(final Properties aProperties) {
+        reload(copy(aProperties));
+    }
+
+    /**
+     * Replaces the bundle's messages with the supplied ones. Readers see either the old or the new messages, never a
+     * mix of the two.
+     *
+     * @param aMessages The new contents of the resource bundle
+     */
+    void reload(final Map<String, String> aMessages) {
+        myContents = new Contents(aMessages);
+        GENERATION.incrementAndGet();
+    }
+
+    /**
+     * Gets the compiled message templates of this bundle and its parents. If two threads resolve them at the same
+     * time, they build equivalent tables, so no locking is needed. They're resolved again after any bundle has been
+     * reloaded.
+     *
+     * @return The compiled message templates of this bundle and its parents
+     */
+    private MessageTable getResolvedTemplates() {
+        final long generation = GENERATION.get();
+        final Resolved resolved = myResolved;
+        final MessageTable templates;
+
+        if (resolved != null && resolved.myGeneration == generation) {
+            return resolved.myTemplates;
+        }
+
+        if (parent instanceof AbstractResourceBundle) {
+            templates = myContents.myTemplates.withParent(((AbstractResourceBundle) parent).getResolvedTemplates());
+        } else {
+            templates = myContents.myTemplates;
+        }
+
+        myResolved = new Resolved(templates, generation);
+        return templates;
+    }
+
+    /**
+     * Copies the supplied bundle properties into a map, which the bundle then copies into an immutable map. Unlike
+     * {@link Properties}, the immutable map is built once and then only read, so lookups from concurrent logging
+     * threads don't contend with each other.
+     *
+     * @param aProperties The contents of a resource bundle
+     * @return A map of the bundle's messages
+     */
+    private static Map<String, String> copy(final Properties aProperties) {
+        final Map<String, String> messages = new HashMap<>(aProperties.size() * 4 / 3 + 1);
+
+        for (final String key : aProperties.stringPropertyNames()) {
+            messages.put(key, aProperties.getProperty(key));
+        }
+
+        return messages;
+    }
+
+    /**
+     * Normalizes the white space in the supplied bundle messages and compiles them into message templates once, so
+     * it doesn't need to be done on lookup.
+     *
+     * @param aMessages The contents of a resource bundle
+     * @return A table of compiled message templates with their white space normalized
+     */
+    private static MessageTable normalize(final Map<String, String> aMessages) {
+        final Map<String, MessageTemplate> templates = new HashMap<>(aMessages.size() * 4 / 3 + 1);
+
+        for (final Map.Entry<String, String> entry : aMessages.entrySet()) {
+            templates.put(entry.getKey(), MessageTemplate.compile(StringUtils.normalizeWS(entry.getValue())));
+        }
+
+        return new MessageTable(templates);
+    }
+
+    /**
+     * A bundle's messages and their compiled templates.
+     */
+    private static final class Contents {
+
+        /** The bundle's messages, in an immutable map that can be read concurrently without locking. */
+        private final Map<String, String> myMessages;
+
+        /** The bundle's compiled message templates, with their white space normalized. */
+        private final MessageTable myTemplates;
+
+        /**
+         * Creates the contents of a bundle.
+         *
+         * @param aMessages The bundle's messages
+         */
+        private Contents(final Map<String, String> aMessages) {
+            myMessages = Map.copyOf(aMessages);
+            myTemplates = normalize(myMessages);
+        }
+    }
+
+    /**
+     * The compiled message templates of a bundle and its parents, along with the reload generation they were resolved
+     * in.
+     */
+    private static final class Resolved {
+
+        /** The compiled message templates of a bundle and its parents. */
+        private final MessageTable myTemplates;
+
+        /** The reload generation in which the templates were resolved. */
+        private final long myGeneration;
+
+        /**
+         * Creates a set of resolved templates.
+         *
+         * @param aTemplates The compiled message templates of a bundle and its parents
+         * @param aGeneration The reload generation in which the templates were resolved
+         */
+        private Resolved(final MessageTable aTemplates, final long aGeneration) {
+            myTemplates = aTemplates;
+            myGeneration = aGeneration;
+        }
+    }
 }
@@ -0,0 +1,358 @@
+
+package info.freelibrary.util;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+
+import info.freelibrary.util.warnings.PMD;
+
+/**
+ * A dispatcher that moves the work of logging off of the caller's thread. A {@link Logger} that has been given a
+ * dispatcher captures each enabled logging call's message key, arguments, and MDC into a preallocated ring buffer; a
+ * background thread then resolves, formats, and writes the queued events in batches. Since arguments are formatted
+ * on the background thread, they should not be changed after they've been logged.
+ */
+public final class AsyncLogDispatcher implements AutoCloseable {
+
+    /** The logger used by the asynchronous log dispatcher. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncLogDispatcher.class, MessageCodes.BUNDLE);
+
+    /** The default capacity of the dispatcher's ring buffer. */
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    /** The maximum number of events the background thread takes from the ring buffer at once. */
+    private static final int MAX_BATCH_SIZE = 256;
+
+    /** The name of the dispatcher's background thread. */
+    private static final String THREAD_NAME = "freelib-async-logger";
+
+    /** The lock that guards the ring buffer. */
+    private final ReentrantLock myLock = new ReentrantLock();
+
+    /** A condition signaled when events are added to the ring buffer. */
+    private final Condition myNotEmpty = myLock.newCondition();
+
+    /** A condition signaled when events are removed from the ring buffer. */
+    private final Condition myNotFull = myLock.newCondition();
+
+    /** The ring buffer's preallocated event slots. */
+    private final LogEvent[] mySlots;
+
+    /** The events the background thread is currently writing. */
+    private final LogEvent[] myBatch;
+
+    /** What to do when the ring buffer is full. */
+    private final OverflowPolicy myPolicy;
+
+    /** The number of events dropped because the ring buffer was full. */
+    private final AtomicLong myDropCount = new AtomicLong();
+
+    /** The background thread that writes the queued events. */
+    private final Thread myWorker;
+
+    /** The position of the next event to be taken from the ring buffer. */
+    private int myHead;
+
+    /** The number of events in the ring buffer. */
+    private int myCount;
+
+    /** Whether the dispatcher has been closed. */
+    private volatile boolean myClosed;
+
+    /**
+     * Creates a new asynchronous log dispatcher with a default capacity that blocks callers when it's full.
+     */
+    public AsyncLogDispatcher() {
+        this(DEFAULT_CAPACITY, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Creates a new asynchronous log dispatcher.
+     *
+     * @param aCapacity The number of events that can be queued before the overflow policy applies
+     * @param aPolicy What to do with new events when the queue is full
+     * @throws IllegalArgumentException If the supplied capacity isn't a positive number
+     */
+    public AsyncLogDispatcher(final int aCapacity, final OverflowPolicy aPolicy) {
+        if (aCapacity < 1) {
+            throw new IllegalArgumentException(LOGGER.getI18n(MessageCodes.UTIL_079, aCapacity));
+        }
+
+        mySlots = new LogEvent[aCapacity];
+        myBatch = new LogEvent[Math.min(aCapacity, MAX_BATCH_SIZE)];
+        myPolicy = aPolicy;
+
+        for (int index = 0; index < mySlots.length; index++) {
+            mySlots[index] = new LogEvent();
+        }
+
+        for (int index = 0; index < myBatch.length; index++) {
+            myBatch[index] = new LogEvent();
+        }
+
+        myWorker = new Worker();
+        myWorker.start();
+    }
+
+    /**
+     * Gets the number of events that have been dropped because the queue was full.
+     *
+     * @return The number of dropped events
+     */
+    public long getDropCount() {
+        return myDropCount.get();
+    }
+
+    /**
+     * Returns whether the dispatcher has been closed.
+     *
+     * @return True if the dispatcher has been closed; else, false
+     */
+    public boolean isClosed() {
+        return myClosed;
+    }
+
+    /**
+     * Closes the dispatcher, waiting for the events that have already been queued to be written. Loggers that use a
+     * closed dispatcher write their events on the caller's thread.
+     */
+    @Override
+    public void close() {
+        myLock.lock();
+
+        try {
+            myClosed = true;
+            myNotEmpty.signalAll();
+            myNotFull.signalAll();
+        } finally {
+            myLock.unlock();
+        }
+
+        try {
+            myWorker.join();
+        } catch (final InterruptedException details) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns whether the current thread is a dispatcher's background thread.
+     *
+     * @return True if the current thread is a dispatcher's background thread; else, false
+     */
+    static boolean isDispatchThread() {
+        return Thread.currentThread() instanceof Worker;
+    }
+
+    /**
+     * Queues a logging event to be written by the background thread.
+     *
+     * @param aLogger The logger that should write the event
+     * @param aLevel The level of the event
+     * @param aMarker A marker for the event, which may be null
+     * @param aMessage A message or message key
+     * @param aThrowable A throwable for the event, which may be null
+     * @param aDetails Additional details for the message
+     * @param aContext A copy of the caller's MDC, which may be null
+     * @return True if the event was queued or dropped; false if the caller should write the event itself
+     */
+    boolean enqueue(final Logger aLogger, final Level aLevel, final Marker aMarker, final String aMessage,
+            final Throwable aThrowable, final Object[] aDetails, final Map<String, String> aContext) {
+        myLock.lock();
+
+        try {
+            while (myCount == mySlots.length && !myClosed) {
+                if (myPolicy == OverflowPolicy.DROP) {
+                    myDropCount.incrementAndGet();
+                    return true;
+                }
+
+                myNotFull.await();
+            }
+
+            if (myClosed) {
+                return false;
+            }
+
+            mySlots[(myHead + myCount) % mySlots.length].set(aLogger, aLevel, aMarker, aMessage, aThrowable,
+                    aDetails, aContext);
+            myCount += 1;
+            myNotEmpty.signal();
+
+            return true;
+        } catch (final InterruptedException details) {
+            Thread.currentThread().interrupt();
+            myDropCount.incrementAndGet();
+            return true;
+        } finally {
+            myLock.unlock();
+        }
+    }
+
+    /**
+     * Moves the next batch of events from the ring buffer into the batch array, waiting for events if there are none.
+     * The slot objects are swapped rather than copied, so nothing is allocated.
+     *
+     * @return The number of events in the batch, or zero if the dispatcher has been closed and emptied
+     * @throws InterruptedException If the background thread is interrupted while waiting for events
+     */
+    private int takeBatch() throws InterruptedException {
+        myLock.lock();
+
+        try {
+            while (myCount == 0) {
+                if (myClosed) {
+                    return 0;
+                }
+
+                myNotEmpty.await();
+            }
+
+            final int size = Math.min(myCount, myBatch.length);
+
+            for (int index = 0; index < size; index++) {
+                final LogEvent event = mySlots[myHead];
+
+                mySlots[myHead] = myBatch[index];
+                myBatch[index] = event;
+                myHead = (myHead + 1) % mySlots.length;
+            }
+
+            myCount -= size;
+            myNotFull.signalAll();
+
+            return size;
+        } finally {
+            myLock.unlock();
+        }
+    }
+
+    /**
+     * What a dispatcher does with new events when its queue is full.
+     */
+    public enum OverflowPolicy {
+
+        /** New events are dropped and counted. */
+        DROP,
+
+        /** The caller waits until there is room in the queue. */
+        BLOCK
+    }
+
+    /**
+     * The background thread that writes the queued events.
+     */
+    private final class Worker extends Thread {
+
+        /**
+         * Creates the dispatcher's background thread.
+         */
+        private Worker() {
+            super(THREAD_NAME);
+            setDaemon(true);
+        }
+
+        @Override
+        @SuppressWarnings(PMD.AVOID_CATCHING_GENERIC_EXCEPTION)
+        public void run() {
+            try {
+                int size;
+
+                while ((size = takeBatch()) > 0) {
+                    for (int index = 0; index < size; index++) {
+                        final LogEvent event = myBatch[index];
+
+                        try {
+                            event.write();
+                        } catch (final RuntimeException details) {
+                            LOGGER.error(details, MessageCodes.UTIL_080, event.myMessage);
+                        } finally {
+                            event.clear();
+                        }
+                    }
+
+                    MDC.clear();
+                }
+            } catch (final InterruptedException details) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * A reusable slot in the ring buffer that holds the details of one logging call.
+     */
+    private static final class LogEvent {
+
+        /** The logger that should write the event. */
+        private Logger myLogger;
+
+        /** The level of the event. */
+        private Level myLevel;
+
+        /** A marker for the event. */
+        private Marker myMarker;
+
+        /** A message or message key. */
+        private String myMessage;
+
+        /** A throwable for the event. */
+        private Throwable myThrowable;
+
+        /** Additional details for the message. */
+        private Object[] myDetails;
+
+        /** A copy of the caller's MDC. */
+        private Map<String, String> myContext;
+
+        /**
+         * Sets the details of the logging call.
+         *
+         * @param aLogger The logger that should write the event
+         * @param aLevel The level of the event
+         * @param aMarker A marker for the event
+         * @param aMessage A message or message key
+         * @param aThrowable A throwable for the event
+         * @param aDetails Additional details for the message
+         * @param aContext A copy of the caller's MDC
+         */
+        @SuppressWarnings(PMD.USE_VARARGS)
+        private void set(final Logger aLogger, final Level aLevel, final Marker aMarker, final String aMessage,
+                final Throwable aThrowable, final Object[] aDetails, final Map<String, String> aContext) {
+            myLogger = aLogger;
+            myLevel = aLevel;
+            myMarker = aMarker;
+            myMessage = aMessage;
+            myThrowable = aThrowable;
+            myDetails = aDetails;
+            myContext = aContext;
+        }
+
+        /**
+         * Writes the event using the caller's MDC.
+         */
+        private void write() {
+            if (myContext == null) {
+                MDC.clear();
+            } else {
+                MDC.setContextMap(myContext);
+            }
+
+            myLogger.write(myLevel, myMarker, myMessage, myThrowable, myDetails);
+        }
+
+        /**
+         * Clears the event so that the slot doesn't hold on to references.
+         */
+        @SuppressWarnings(PMD.NULL_ASSIGNMENT)
+        private void clear() {
+            set(null, null, null, null, null, null, null);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+
+package info.freelibrary.util;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
+
+/**
+ * A {@link ResourceBundle} that uses a precompiled binary file as its source. The file starts with a small header
+ * (a magic number, a format version, and an entry count), followed by an index of key and value offsets and then a
+ * table of length-prefixed UTF-8 strings. Reading it doesn't involve any parsing beyond decoding the strings, and the
+ * file can be read directly from a memory-mapped buffer.
+ */
+class BinaryResourceBundle extends AbstractResourceBundle {
+
+    /** The file extension of binary bundles. */
+    static final String FORMAT = "bin";
+
+    /** The magic number that starts a binary bundle ("FBND"). */
+    private static final int MAGIC = 0x46424E44;
+
+    /** The version of the binary bundle format. */
+    private static final short VERSION = 1;
+
+    /** The number of bytes in an integer. */
+    private static final int INT_SIZE = Integer.BYTES;
+
+    /**
+     * Constructor that allows {@link ResourceBundle}s to be backed by precompiled binary files.
+     *
+     * @param aBuffer A buffer with the contents of a binary bundle
+     * @throws IOException If the buffer doesn't contain a valid binary bundle
+     */
+    BinaryResourceBundle(final ByteBuffer aBuffer) throws IOException {
+        super(read(aBuffer));
+    }
+
+    /**
+     * Writes the supplied messages to an output stream in the binary bundle format.
+     *
+     * @param aMessages The messages to write
+     * @param aOutStream An output stream to which to write the binary bundle
+     * @throws IOException If there is trouble writing the binary bundle
+     */
+    static void write(final Map<String, String> aMessages, final OutputStream aOutStream) throws IOException {
+        final DataOutputStream outStream = new DataOutputStream(aOutStream);
+        final List<byte[]> strings = new ArrayList<>(aMessages.size() * 2);
+        int offset = 0;
+
+        for (final Map.Entry<String, String> entry : aMessages.entrySet()) {
+            strings.add(entry.getKey().getBytes(StandardCharsets.UTF_8));
+            strings.add(entry.getValue().getBytes(StandardCharsets.UTF_8));
+        }
+
+        outStream.writeInt(MAGIC);
+        outStream.writeShort(VERSION);
+        outStream.writeInt(aMessages.size());
+
+        // The index holds each string's offset into the string table, a key's offset followed by its value's
+        for (final byte[] string : strings) {
+            outStream.writeInt(offset);
+            offset += INT_SIZE + string.length;
+        }
+
+        for (final byte[] string : strings) {
+            outStream.writeInt(string.length);
+            outStream.write(string);
+        }
+
+        outStream.flush();
+    }
+
+    /**
+     * Reads the messages from a buffer with the contents of a binary bundle.
+     *
+     * @param aBuffer A buffer with the contents of a binary bundle
+     * @return The bundle's messages
+     * @throws IOException If the buffer doesn't contain a valid binary bundle
+     */
+    static Map<String, String> read(final ByteBuffer aBuffer) throws IOException {
+        try {
+            final int count;
+            final int tableStart;
+            final Map<String, String> messages;
+
+            if (aBuffer.getInt() != MAGIC || aBuffer.getShort() != VERSION) {
+                throw new IOException(getMessage(MessageCodes.UTIL_084));
+            }
+
+            count = aBuffer.getInt();
+            tableStart = aBuffer.position() + count * 2 * INT_SIZE;
+            messages = new HashMap<>(count * 4 / 3 + 1);
+
+            for (int index = 0; index < count; index++) {
+                final String key = readString(aBuffer, tableStart + aBuffer.getInt());
+                final String value = readString(aBuffer, tableStart + aBuffer.getInt());
+
+                messages.put(key, value);
+            }
+
+            return messages;
+        } catch (final BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException details) {
+            throw new IOException(getMessage(MessageCodes.UTIL_084), details);
+        }
+    }
+
+    /**
+     * Reads a length-prefixed UTF-8 string from the supplied position in the buffer, without moving the buffer's
+     * position.
+     *
+     * @param aBuffer A buffer with the contents of a binary bundle
+     * @param aPosition The position of the string
+     * @return The string
+     */
+    private static String readString(final ByteBuffer aBuffer, final int aPosition) {
+        final int length = aBuffer.getInt(aPosition);
+        final byte[] bytes = new byte[length];
+
+        aBuffer.get(aPosition + INT_SIZE, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets an I18n message. The logger is only looked up when it's needed since loading this library's own bundle
+     * goes through this class.
+     *
+     * @param aMessageKey A message key
+     * @return The message
+     */
+    private static String getMessage(final String aMessageKey) {
+        return LoggerFactory.getLogger(BinaryResourceBundle.class, MessageCodes.BUNDLE).getI18n(aMessageKey);
+    }
+}
@@ -0,0 +1,136 @@
+
+package info.freelibrary.util;
+
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A cache of the resource bundles used by {@link I18nObject}s and the I18n exceptions, keyed by bundle name and
+ * locale. {@link ResourceBundle#getBundle(String, Locale, ResourceBundle.Control)} searches a chain of candidate
+ * locales and checks each cached candidate's expiration every time it's called, which adds up when exceptions are
+ * created in a loop; a lookup in this cache is a single hash table read. Bundles with a time to live (see
+ * {@link CustomBundleControl#TTL_PROPERTY}) are looked up again once it has passed. Bundle names are lower cased,
+ * as {@link I18nObject} has always done, so a bundle that's preloaded under one spelling of its name is found under
+ * any other.
+ */
+final class BundleCache {
+
+    /** The control used to load bundles. */
+    static final CustomBundleControl CONTROL = new CustomBundleControl();
+
+    /** The cached bundles. */
+    private static final ConcurrentMap<BundleKey, CachedBundle> BUNDLES = new ConcurrentHashMap<>();
+
+    /** The cache's lookup counts. */
+    static final BundleCacheMetrics METRICS = new BundleCacheMetrics();
+
+    /**
+     * Creates a bundle cache.
+     */
+    private BundleCache() {
+        // This is intentionally left empty
+    }
+
+    /**
+     * Gets the named bundle for the supplied locale, loading it if it's not already in the cache.
+     *
+     * @param aBundleName The name of a resource bundle, which gets lower cased automatically
+     * @param aLocale The locale of the bundle, or null for the default locale
+     * @return The resource bundle
+     * @throws java.util.MissingResourceException If the bundle can't be found
+     */
+    static I18nResourceBundle get(final String aBundleName, final Locale aLocale) {
+        final String bundleName = aBundleName.toLowerCase(Locale.ROOT);
+        final Locale locale = aLocale == null ? Locale.getDefault() : aLocale;
+        final BundleKey key = new BundleKey(bundleName, locale);
+        final CachedBundle cachedBundle = BUNDLES.get(key);
+
+        if (cachedBundle != null) {
+            if (cachedBundle.isCurrent()) {
+                METRICS.hit();
+                return cachedBundle.myBundle;
+            }
+
+            // Only removes the expired bundle if another thread hasn't already replaced it
+            BUNDLES.remove(key, cachedBundle);
+        }
+
+        METRICS.miss();
+
+        // Not computeIfAbsent() since loading a bundle can create loggers that request their own bundles
+        final I18nResourceBundle bundle = (I18nResourceBundle) ResourceBundle.getBundle(bundleName, locale, CONTROL);
+        final long ttl = CONTROL.getTimeToLive(bundleName, locale);
+
+        if (ttl != ResourceBundle.Control.TTL_DONT_CACHE) {
+            BUNDLES.put(key, new CachedBundle(bundle, ttl));
+        }
+
+        return bundle;
+    }
+
+    /**
+     * Gets the number of bundles in the cache.
+     *
+     * @return The number of cached bundles
+     */
+    static int size() {
+        return BUNDLES.size();
+    }
+
+    /**
+     * Clears the cache and resets its metrics.
+     */
+    static void clear() {
+        BUNDLES.clear();
+        METRICS.reset();
+    }
+
+    /**
+     * A key for the cache of bundles.
+     *
+     * @param bundleName A resource bundle name
+     * @param locale The locale of the bundle
+     */
+    private record BundleKey(String bundleName, Locale locale) {
+    }
+
+    /**
+     * A bundle in the cache.
+     */
+    private static final class CachedBundle {
+
+        /** The bundle. */
+        private final I18nResourceBundle myBundle;
+
+        /** Whether the bundle expires. */
+        private final boolean myExpires;
+
+        /** When the bundle expires, in nanoseconds. */
+        private final long myExpiration;
+
+        /**
+         * Creates a cached bundle.
+         *
+         * @param aBundle A bundle
+         * @param aTimeToLive The bundle's time to live, in milliseconds, or
+         *        {@link ResourceBundle.Control#TTL_NO_EXPIRATION_CONTROL}
+         */
+        private CachedBundle(final I18nResourceBundle aBundle, final long aTimeToLive) {
+            myBundle = aBundle;
+            myExpires = aTimeToLive != ResourceBundle.Control.TTL_NO_EXPIRATION_CONTROL;
+            myExpiration = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(aTimeToLive);
+        }
+
+        /**
+         * Returns whether the bundle's time to live hasn't passed.
+         *
+         * @return True if the bundle can still be used; else, false
+         */
+        private boolean isCurrent() {
+            return !myExpires || System.nanoTime() - myExpiration < 0;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+
+package info.freelibrary.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Counts the lookups in the resource bundle cache that's shared by {@link I18nObject}s, {@link Logger}s, and the I18n
+ * exceptions. The counters are striped so that concurrent lookups don't contend on them.
+ */
+public final class BundleCacheMetrics implements BundleCacheMetricsMBean {
+
+    /** The JMX object name under which the bundle cache metrics are registered. */
+    private static final String OBJECT_NAME = "info.freelibrary.util:type=BundleCacheMetrics";
+
+    /** The number of lookups that found a bundle in the cache. */
+    private final LongAdder myHits = new LongAdder();
+
+    /** The number of lookups that had to load a bundle. */
+    private final LongAdder myMisses = new LongAdder();
+
+    /**
+     * Creates a new set of bundle cache metrics.
+     */
+    BundleCacheMetrics() {
+        // This is intentionally left empty
+    }
+
+    @Override
+    public long getHitCount() {
+        return myHits.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return myMisses.sum();
+    }
+
+    @Override
+    public double getHitRatio() {
+        final long hits = getHitCount();
+        final long lookups = hits + getMissCount();
+
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    @Override
+    public int getSize() {
+        return BundleCache.size();
+    }
+
+    @Override
+    public void reset() {
+        myHits.reset();
+        myMisses.reset();
+    }
+
+    /**
+     * Registers these metrics with the platform's MBean server.
+     *
+     * @return The name under which the metrics were registered
+     * @throws JMException If the metrics could not be registered
+     */
+    public ObjectName register() throws JMException {
+        final ObjectName name = new ObjectName(OBJECT_NAME);
+
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+        return name;
+    }
+
+    /**
+     * Counts a lookup that found its bundle in the cache.
+     */
+    void hit() {
+        myHits.increment();
+    }
+
+    /**
+     * Counts a lookup that had to load its bundle.
+     */
+    void miss() {
+        myMisses.increment();
+    }
+}
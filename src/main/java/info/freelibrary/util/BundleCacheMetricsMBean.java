@@ -0,0 +1,41 @@
+
+package info.freelibrary.util;
+
+/**
+ * The JMX management interface for the shared resource bundle cache's {@link BundleCacheMetrics}.
+ */
+public interface BundleCacheMetricsMBean {
+
+    /**
+     * Gets the number of bundle lookups that found their bundle in the cache since the last reset.
+     *
+     * @return The number of cache hits
+     */
+    long getHitCount();
+
+    /**
+     * Gets the number of bundle lookups that had to load their bundle since the last reset.
+     *
+     * @return The number of cache misses
+     */
+    long getMissCount();
+
+    /**
+     * Gets the fraction of bundle lookups that found their bundle in the cache since the last reset.
+     *
+     * @return The cache hit ratio, or zero if there haven't been any lookups
+     */
+    double getHitRatio();
+
+    /**
+     * Gets the number of bundles in the cache.
+     *
+     * @return The number of cached bundles
+     */
+    int getSize();
+
+    /**
+     * Resets the cache's counters.
+     */
+    void reset();
+}
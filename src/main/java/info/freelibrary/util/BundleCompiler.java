@@ -0,0 +1,84 @@
+
+package info.freelibrary.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Compiles XML and properties resource bundles into the binary bundle format that {@link CustomBundleControl}
+ * prefers. It's meant to be run as a build step on the bundles in the build's output directory, for instance:
+ * <code>java info.freelibrary.util.BundleCompiler target/classes/my_messages.xml</code>, which writes
+ * <code>target/classes/my_messages.bin</code> next to the source bundle. The source bundles should be kept as a
+ * fallback. This project's own bundle is compiled this way in the <code>process-classes</code> phase of its build.
+ * Once a bundle is compiled, its source is only read again if it's modified after the compiled bundle was written.
+ */
+public final class BundleCompiler {
+
+    /** The logger used by the bundle compiler. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BundleCompiler.class, MessageCodes.BUNDLE);
+
+    /** The file extension of XML bundles. */
+    private static final String XML_EXT = ".xml";
+
+    /**
+     * Creates a bundle compiler.
+     */
+    private BundleCompiler() {
+        // This is intentionally left empty
+    }
+
+    /**
+     * Compiles each of the supplied XML or properties bundles into a binary bundle in the same directory.
+     *
+     * @param aArgs The paths of the bundles to compile
+     * @throws IOException If a bundle can't be read or its binary form can't be written
+     */
+    public static void main(final String... aArgs) throws IOException {
+        for (final String arg : aArgs) {
+            final Path source = Path.of(arg);
+            final String fileName = FileUtils.stripExt(source.getFileName().toString());
+
+            compile(source, source.resolveSibling(fileName + '.' + BinaryResourceBundle.FORMAT));
+        }
+    }
+
+    /**
+     * Compiles an XML or properties bundle into a binary bundle. A source file with an <code>.xml</code> extension is
+     * read as an XML bundle; anything else is read as a properties bundle.
+     *
+     * @param aSource The bundle to compile
+     * @param aTarget The binary bundle to write
+     * @throws IOException If the bundle can't be read or its binary form can't be written
+     */
+    public static void compile(final Path aSource, final Path aTarget) throws IOException {
+        final Properties properties = new Properties();
+        final Map<String, String> messages = new TreeMap<>();
+
+        try (InputStream inStream = new BufferedInputStream(Files.newInputStream(aSource))) {
+            if (aSource.toString().toLowerCase(Locale.ROOT).endsWith(XML_EXT)) {
+                properties.loadFromXML(inStream);
+            } else {
+                properties.load(inStream);
+            }
+        }
+
+        for (final String key : properties.stringPropertyNames()) {
+            messages.put(key, properties.getProperty(key));
+        }
+
+        try (OutputStream outStream = new BufferedOutputStream(Files.newOutputStream(aTarget))) {
+            BinaryResourceBundle.write(messages, outStream);
+        }
+
+        LOGGER.debug(MessageCodes.UTIL_085, aSource, aTarget, messages.size());
+    }
+}
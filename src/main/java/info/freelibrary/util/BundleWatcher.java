@@ -0,0 +1,317 @@
+
+package info.freelibrary.util;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import info.freelibrary.util.warnings.PMD;
+
+/**
+ * Watches the files that bundles were loaded from and reloads the bundles when their files change. Reloading happens
+ * on a background thread and replaces a bundle's contents in a single step, so readers never wait for a reload or see
+ * a partly loaded bundle. Editors often truncate a file before writing its new contents, so a file is only reloaded
+ * once it has gone {@link #SETTLE_TIME} milliseconds without changing. If a changed file can't be read, or has no
+ * messages, the bundle keeps its current contents.
+ */
+final class BundleWatcher {
+
+    /** The name of the watcher's background thread. */
+    private static final String THREAD_NAME = "freelib-bundle-watcher";
+
+    /** How long a changed file has to go without changing again before it's reloaded, in milliseconds. */
+    private static final long SETTLE_TIME = 250;
+
+    /** The service that reports changes to the watched directories, or null if it couldn't be started. */
+    private final WatchService myWatchService;
+
+    /** Why the watch service couldn't be started, or null if it was. */
+    private final IOException myFailure;
+
+    /** The watched directories. */
+    private final Set<Path> myDirs = ConcurrentHashMap.newKeySet();
+
+    /** The watched bundles, by the files they were loaded from. */
+    private final ConcurrentMap<Path, List<WatchedBundle>> myBundles = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new bundle watcher and, if the file system's watch service can be started, its background thread.
+     */
+    private BundleWatcher() {
+        WatchService watchService = null;
+        IOException failure = null;
+
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+        } catch (final IOException details) {
+            failure = details;
+        }
+
+        myWatchService = watchService;
+        myFailure = failure;
+
+        if (myWatchService != null) {
+            final Thread thread = new Thread(this::run, THREAD_NAME);
+
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Gets the shared bundle watcher, which is created when the first bundle is watched. If the file system's watch
+     * service can't be started, it isn't tried again.
+     *
+     * @return The shared bundle watcher
+     * @throws IOException If the file system's watch service can't be started
+     */
+    static BundleWatcher getInstance() throws IOException {
+        final BundleWatcher watcher = Holder.INSTANCE;
+
+        if (watcher.myFailure != null) {
+            throw new IOException(watcher.myFailure.getMessage(), watcher.myFailure);
+        }
+
+        return watcher;
+    }
+
+    /**
+     * Watches the file that the supplied bundle was loaded from. The watcher only holds a weak reference to the
+     * bundle, so watching it doesn't keep it from being garbage collected.
+     *
+     * @param aFile The file the bundle was loaded from
+     * @param aFormat The format of the bundle's file
+     * @param aBundle The bundle to reload when its file changes
+     * @throws IOException If the file's directory can't be watched
+     */
+    void watch(final Path aFile, final String aFormat, final AbstractResourceBundle aBundle) throws IOException {
+        final Path file = aFile.toAbsolutePath().normalize();
+        final Path dir = file.getParent();
+
+        // A directory is only marked as watched once it's registered, so a failed registration is tried again
+        if (!myDirs.contains(dir)) {
+            dir.register(myWatchService, ENTRY_CREATE, ENTRY_MODIFY);
+            myDirs.add(dir);
+        }
+
+        myBundles.computeIfAbsent(file, key -> new CopyOnWriteArrayList<>()).add(new WatchedBundle(aFormat, aBundle));
+    }
+
+    /**
+     * Waits for changes to the watched directories and reloads the bundles whose files have changed and then settled.
+     * The changes to a file are merged, so a file that's written in several steps is reloaded once.
+     */
+    private void run() {
+        final Map<Path, Long> changedFiles = new HashMap<>();
+
+        try {
+            while (true) {
+                final WatchKey key;
+
+                if (changedFiles.isEmpty()) {
+                    key = myWatchService.take();
+                } else {
+                    key = myWatchService.poll(getWaitTime(changedFiles), TimeUnit.NANOSECONDS);
+                }
+
+                if (key != null) {
+                    final Path dir = (Path) key.watchable();
+
+                    for (final WatchEvent<?> event : key.pollEvents()) {
+                        if (event.context() instanceof Path) {
+                            final Path file = dir.resolve((Path) event.context());
+
+                            // Each change to a file pushes its reload back until the file has settled
+                            if (myBundles.containsKey(file)) {
+                                changedFiles.put(file, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SETTLE_TIME));
+                            }
+                        }
+                    }
+
+                    key.reset();
+                }
+
+                reloadSettled(changedFiles);
+            }
+        } catch (final InterruptedException details) {
+            Thread.currentThread().interrupt();
+        } catch (final ClosedWatchServiceException details) {
+            // The watch service has been closed, so there is nothing more to watch
+        }
+    }
+
+    /**
+     * Gets how long to wait for more changes before the first of the changed files has settled.
+     *
+     * @param aChangedFiles The changed files, with the times, in nanoseconds, at which they'll have settled
+     * @return The time to wait, in nanoseconds
+     */
+    private static long getWaitTime(final Map<Path, Long> aChangedFiles) {
+        final long now = System.nanoTime();
+        long wait = Long.MAX_VALUE;
+
+        for (final long settleTime : aChangedFiles.values()) {
+            wait = Math.min(wait, settleTime - now);
+        }
+
+        return Math.max(0, wait);
+    }
+
+    /**
+     * Reloads the bundles of the changed files that have settled, and stops tracking those files.
+     *
+     * @param aChangedFiles The changed files, with the times, in nanoseconds, at which they'll have settled
+     */
+    private void reloadSettled(final Map<Path, Long> aChangedFiles) {
+        final Iterator<Map.Entry<Path, Long>> iterator = aChangedFiles.entrySet().iterator();
+        final long now = System.nanoTime();
+
+        while (iterator.hasNext()) {
+            final Map.Entry<Path, Long> changedFile = iterator.next();
+
+            if (now - changedFile.getValue() >= 0) {
+                final List<WatchedBundle> bundles = myBundles.get(changedFile.getKey());
+
+                iterator.remove();
+
+                if (bundles != null) {
+                    reload(changedFile.getKey(), bundles);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reloads the bundles that were loaded from the supplied file.
+     *
+     * @param aFile A bundle file that has changed
+     * @param aBundles The bundles that were loaded from the file
+     */
+    @SuppressWarnings(PMD.AVOID_CATCHING_GENERIC_EXCEPTION)
+    private void reload(final Path aFile, final List<WatchedBundle> aBundles) {
+        final Logger logger = LoggerFactory.getLogger(BundleWatcher.class, MessageCodes.BUNDLE);
+
+        for (final WatchedBundle watchedBundle : aBundles) {
+            final AbstractResourceBundle bundle = watchedBundle.myBundle.get();
+
+            if (bundle == null) {
+                aBundles.remove(watchedBundle);
+            } else {
+                try {
+                    load(aFile, watchedBundle.myFormat, bundle);
+                    logger.debug(MessageCodes.UTIL_087, aFile);
+                } catch (final IOException | RuntimeException details) {
+                    logger.warn(MessageCodes.UTIL_086, aFile, details.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads the supplied file's contents into a bundle. The file is completely parsed before the bundle is changed,
+     * and a file without any messages, which is most likely one that's still being written, is rejected.
+     *
+     * @param aFile A bundle file
+     * @param aFormat The format of the bundle file
+     * @param aBundle The bundle into which to load the file's contents
+     * @throws IOException If the file can't be read or has no messages
+     */
+    private static void load(final Path aFile, final String aFormat, final AbstractResourceBundle aBundle)
+            throws IOException {
+        // A binary file that's being rewritten isn't safe to map, so changed files are read rather than mapped
+        if (BinaryResourceBundle.FORMAT.equals(aFormat)) {
+            final Map<String, String> messages = BinaryResourceBundle.read(ByteBuffer.wrap(Files.readAllBytes(aFile)));
+
+            checkNotEmpty(aFile, messages.isEmpty());
+            aBundle.reload(messages);
+        } else {
+            try (InputStream inStream = new BufferedInputStream(Files.newInputStream(aFile))) {
+                final Properties properties;
+
+                if (CustomBundleControl.XML.equals(aFormat)) {
+                    properties = XMLResourceBundle.load(inStream);
+                } else {
+                    properties = PropertiesResourceBundle.load(inStream);
+                }
+
+                checkNotEmpty(aFile, properties.isEmpty());
+                aBundle.reload(properties);
+            }
+        }
+    }
+
+    /**
+     * Checks that a changed bundle file had messages in it.
+     *
+     * @param aFile A bundle file
+     * @param aEmpty Whether the file had no messages in it
+     * @throws IOException If the file had no messages in it
+     */
+    private static void checkNotEmpty(final Path aFile, final boolean aEmpty) throws IOException {
+        if (aEmpty) {
+            throw new IOException(LoggerFactory.getLogger(BundleWatcher.class, MessageCodes.BUNDLE)
+                    .getI18n(MessageCodes.UTIL_093, aFile));
+        }
+    }
+
+    /**
+     * The holder of the shared bundle watcher, which the JVM initializes, once, when the first bundle is watched.
+     */
+    private static final class Holder {
+
+        /** The shared bundle watcher. */
+        private static final BundleWatcher INSTANCE = new BundleWatcher();
+
+        /**
+         * Creates a holder of the shared bundle watcher.
+         */
+        private Holder() {
+            // This is intentionally left empty
+        }
+    }
+
+    /**
+     * A bundle that's being watched.
+     */
+    private static final class WatchedBundle {
+
+        /** The format of the bundle's file. */
+        private final String myFormat;
+
+        /** A weak reference to the bundle. */
+        private final WeakReference<AbstractResourceBundle> myBundle;
+
+        /**
+         * Creates a watched bundle.
+         *
+         * @param aFormat The format of the bundle's file
+         * @param aBundle The bundle
+         */
+        private WatchedBundle(final String aFormat, final AbstractResourceBundle aBundle) {
+            myFormat = aFormat;
+            myBundle = new WeakReference<>(aBundle);
+        }
+    }
+}
@@ -4,8 +4,14 @@ package info.freelibrary.util;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
@@ -13,24 +19,81 @@ import java.util.Objects;
 import java.util.ResourceBundle;
 
 /**
- * A resource bundle control that supports the {@link XMLResourceBundle}.
+ * A resource bundle control that supports the {@link XMLResourceBundle}. Bundles that have been precompiled by the
+ * {@link BundleCompiler} are preferred over their XML and properties sources, so once a compiled bundle exists its
+ * source is ignored. The exception is a source file that's been modified since its bundle was compiled (after an IDE
+ * build that doesn't run the compiler, for instance); the stale compiled bundle is then skipped and the source is
+ * loaded instead. Inside a jar file, where a bundle and its source come from the same build, the compiled bundle is
+ * always used. A watched compiled bundle is reloaded when either it or its source file changes.
  */
 public class CustomBundleControl extends ResourceBundle.Control {
 
+    /**
+     * The name of a system property that sets how long, in milliseconds, a loaded bundle may be used before the
+     * {@link ResourceBundle} cache checks whether it needs to be reloaded; by default, bundles don't expire.
+     */
+    public static final String TTL_PROPERTY = "freelib.bundles.ttl";
+
+    /**
+     * The name of a system property that, when true, watches bundle files for changes and reloads them in the
+     * background; it defaults to false.
+     */
+    public static final String WATCH_PROPERTY = "freelib.bundles.watch";
+
     /**
      * A constant for the XML format.
      */
-    private static final String XML = "xml";
+    static final String XML = "xml";
 
     /**
      * A constant for the properties format.
      */
-    private static final String PROPERTIES = "properties";
+    static final String PROPERTIES = "properties";
 
     /**
-     * An array of expected resource file extensions.
+     * An array of expected resource file extensions, in the order they're tried.
      */
-    private static final String[] FORMATS = { XML, PROPERTIES };
+    private static final String[] FORMATS = { BinaryResourceBundle.FORMAT, XML, PROPERTIES };
+
+    /**
+     * A constant for the file URL protocol.
+     */
+    private static final String FILE_PROTOCOL = "file";
+
+    /**
+     * How long a loaded bundle may be used before the cache checks whether it needs to be reloaded.
+     */
+    private final long myTimeToLive;
+
+    /**
+     * Whether bundle files are watched for changes.
+     */
+    private final boolean myWatching;
+
+    /**
+     * Creates a new bundle control, configured by the {@link #TTL_PROPERTY} and {@link #WATCH_PROPERTY} system
+     * properties.
+     */
+    public CustomBundleControl() {
+        this(Long.getLong(TTL_PROPERTY, TTL_NO_EXPIRATION_CONTROL), Boolean.getBoolean(WATCH_PROPERTY));
+    }
+
+    /**
+     * Creates a new bundle control. A bundle that's reloaded because its time to live has expired is a new bundle;
+     * objects that hold the old bundle keep using it. A watched bundle, on the other hand, has its contents replaced
+     * in the background when its file changes, so everything that holds it sees the change. Only bundles loaded from
+     * files (rather than from jar files, for instance) can be watched.
+     *
+     * @param aTimeToLive How long, in milliseconds, a loaded bundle may be used before the {@link ResourceBundle}
+     *        cache checks whether it needs to be reloaded; {@link #TTL_NO_EXPIRATION_CONTROL} and
+     *        {@link #TTL_DONT_CACHE} may also be used
+     * @param aWatching Whether bundle files should be watched for changes
+     */
+    public CustomBundleControl(final long aTimeToLive, final boolean aWatching) {
+        super();
+        myTimeToLive = aTimeToLive;
+        myWatching = aWatching;
+    }
 
     /**
      * Returns a list of formats supported for the supplied base name.
@@ -61,29 +124,61 @@ public class CustomBundleControl extends ResourceBundle.Control {
 
         if (canRead(aFormat)) {
             final String bundleName = toBundleName(aBaseName, aLocale);
-            final String resourceName = toResourceName(bundleName, aFormat);
-            final URL url;
+            final URL url = aClassLoader.getResource(toResourceName(bundleName, aFormat));
+            final ResourceBundle bundle;
 
-            if (!aReload) {
-                try (InputStream bundleStream = aClassLoader.getResourceAsStream(resourceName)) {
-                    return makeBundle(bundleStream, aFormat);
-                }
+            if (url == null) {
+                return null;
             }
 
-            if ((url = aClassLoader.getResource(resourceName)) != null) {
+            if (BinaryResourceBundle.FORMAT.equals(aFormat)) {
+                final BundleSource source = findSource(bundleName, aClassLoader);
+
+                // A compiled bundle that's older than its source is stale, so the source is loaded instead
+                if (source != null && isNewer(source.url(), url)) {
+                    return null;
+                }
+
+                bundle = makeBinaryBundle(url, aReload);
+
+                if (myWatching && source != null && FILE_PROTOCOL.equals(source.url().getProtocol())) {
+                    BundleWatcher.getInstance().watch(toPath(source.url()), source.format(),
+                            (AbstractResourceBundle) bundle);
+                }
+            } else {
                 final URLConnection connection = url.openConnection();
 
-                connection.setUseCaches(false);
+                connection.setUseCaches(!aReload);
 
                 try (InputStream bundleStream = connection.getInputStream()) {
-                    return makeBundle(bundleStream, aFormat);
+                    bundle = makeBundle(bundleStream, aFormat);
                 }
             }
+
+            if (myWatching && FILE_PROTOCOL.equals(url.getProtocol())) {
+                BundleWatcher.getInstance().watch(toPath(url), aFormat, (AbstractResourceBundle) bundle);
+            }
+
+            return bundle;
         }
 
         return null;
     }
 
+    /**
+     * Gets how long a loaded bundle may be used before the {@link ResourceBundle} cache checks whether it needs to be
+     * reloaded.
+     *
+     * @param aBaseName A base name for the bundle
+     * @param aLocale A locale for the bundle
+     * @return The bundle's time to live, in milliseconds, or one of the time to live constants
+     */
+    @Override
+    public long getTimeToLive(final String aBaseName, final Locale aLocale) {
+        checkForNull(aBaseName, aLocale);
+        return myTimeToLive;
+    }
+
     /**
      * Detects if the supplied format can be read by this bundle control.
      *
@@ -124,6 +219,82 @@ public class CustomBundleControl extends ResourceBundle.Control {
         return bundle;
     }
 
+    /**
+     * Makes a {@link ResourceBundle} from a precompiled binary bundle. A bundle that's a file is memory-mapped rather
+     * than read.
+     *
+     * @param aURL The location of the binary bundle
+     * @param aReload Whether the bundle is being reloaded
+     * @return A {@link ResourceBundle}
+     * @throws IOException If there is trouble reading the binary bundle
+     */
+    private ResourceBundle makeBinaryBundle(final URL aURL, final boolean aReload) throws IOException {
+        if (FILE_PROTOCOL.equals(aURL.getProtocol())) {
+            try (FileChannel channel = FileChannel.open(toPath(aURL), StandardOpenOption.READ)) {
+                return new BinaryResourceBundle(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            }
+        }
+
+        final URLConnection connection = aURL.openConnection();
+
+        connection.setUseCaches(!aReload);
+
+        try (InputStream bundleStream = connection.getInputStream()) {
+            return new BinaryResourceBundle(ByteBuffer.wrap(bundleStream.readAllBytes()));
+        }
+    }
+
+    /**
+     * Finds the XML or properties source of a compiled bundle.
+     *
+     * @param aBundleName The name of a bundle, including its locale
+     * @param aClassLoader The class loader from which the bundle is loaded
+     * @return The bundle's source, or null if it doesn't have one
+     */
+    private BundleSource findSource(final String aBundleName, final ClassLoader aClassLoader) {
+        for (final String format : List.of(XML, PROPERTIES)) {
+            final URL url = aClassLoader.getResource(toResourceName(aBundleName, format));
+
+            if (url != null) {
+                return new BundleSource(url, format);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns whether a bundle's source file has been modified more recently than its compiled bundle. Only files can
+     * be compared; a bundle that's in a jar file, for instance, is never considered stale.
+     *
+     * @param aSource The location of a bundle's source
+     * @param aCompiled The location of the compiled bundle
+     * @return True if the source is a file that's newer than the compiled bundle; else, false
+     * @throws IOException If the files' modification times can't be read
+     */
+    private static boolean isNewer(final URL aSource, final URL aCompiled) throws IOException {
+        if (!FILE_PROTOCOL.equals(aSource.getProtocol()) || !FILE_PROTOCOL.equals(aCompiled.getProtocol())) {
+            return false;
+        }
+
+        return Files.getLastModifiedTime(toPath(aSource)).compareTo(Files.getLastModifiedTime(toPath(aCompiled))) > 0;
+    }
+
+    /**
+     * Converts a file URL into a path.
+     *
+     * @param aURL A file URL
+     * @return A path
+     * @throws IOException If the URL can't be converted into a path
+     */
+    private static Path toPath(final URL aURL) throws IOException {
+        try {
+            return Path.of(aURL.toURI());
+        } catch (final URISyntaxException details) {
+            throw new IOException(details);
+        }
+    }
+
     /**
      * Checks a varargs for nulls.
      *
@@ -134,4 +305,13 @@ public class CustomBundleControl extends ResourceBundle.Control {
             Objects.requireNonNull(arg);
         }
     }
+
+    /**
+     * The source file of a compiled bundle.
+     *
+     * @param url The location of the source
+     * @param format The format of the source
+     */
+    private record BundleSource(URL url, String format) {
+    }
 }
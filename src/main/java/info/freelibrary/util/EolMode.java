@@ -0,0 +1,95 @@
+
+package info.freelibrary.util;
+
+import org.slf4j.Marker;
+
+/**
+ * The ways a {@link Logger} can rewrite the line endings in a message, as selected by a {@link LoggerMarker}.
+ */
+enum EolMode {
+
+    /** Line endings are left as they are. */
+    NONE(null, null),
+
+    /** Line endings are rewritten as spaces. */
+    SPACE(LoggerMarker.EOL_TO_SPACE, Constants.SPACE),
+
+    /** Line endings are rewritten as carriage return and line feeds. */
+    CRLF(LoggerMarker.EOL_TO_CRLF, "\r\n"),
+
+    /** Line endings are rewritten as carriage returns. */
+    CR(LoggerMarker.EOL_TO_CR, "\r"),
+
+    /** Line endings are rewritten as line feeds. */
+    LF(LoggerMarker.EOL_TO_LF, Constants.LF);
+
+    /**
+     * The name of the marker that selects this mode.
+     */
+    private final String myMarkerName;
+
+    /**
+     * The replacement for each line ending.
+     */
+    private final String myReplacement;
+
+    /**
+     * Creates a new line ending mode.
+     *
+     * @param aMarkerName The name of the marker that selects this mode
+     * @param aReplacement The replacement for each line ending
+     */
+    EolMode(final String aMarkerName, final String aReplacement) {
+        myMarkerName = aMarkerName;
+        myReplacement = aReplacement;
+    }
+
+    /**
+     * Gets the line ending mode selected by the supplied marker.
+     *
+     * @param aMarker A marker that may contain a line ending marker
+     * @return The line ending mode selected by the marker
+     */
+    static EolMode from(final Marker aMarker) {
+        if (aMarker == null) {
+            return NONE;
+        }
+
+        if (aMarker.contains(LoggerMarker.EOL_TO_SPACE)) {
+            return SPACE;
+        }
+
+        if (aMarker.contains(LoggerMarker.EOL_TO_CRLF)) {
+            return CRLF;
+        }
+
+        if (aMarker.contains(LoggerMarker.EOL_TO_CR)) {
+            return CR;
+        }
+
+        if (aMarker.contains(LoggerMarker.EOL_TO_LF)) {
+            return LF;
+        }
+
+        return NONE;
+    }
+
+    /**
+     * Gets the name of the marker that selects this mode.
+     *
+     * @return The name of the marker that selects this mode, or null if no marker does
+     */
+    String getMarkerName() {
+        return myMarkerName;
+    }
+
+    /**
+     * Rewrites the line endings in the supplied message.
+     *
+     * @param aMessage A message whose line endings should be rewritten
+     * @return The message with its line endings rewritten
+     */
+    String apply(final String aMessage) {
+        return myReplacement == null ? aMessage : EolRewriter.rewrite(aMessage, myReplacement);
+    }
+}
@@ -0,0 +1,73 @@
+
+package info.freelibrary.util;
+
+/**
+ * Rewrites the line endings in a string in a single pass, without the use of regular expressions.
+ */
+final class EolRewriter {
+
+    /**
+     * A carriage return character.
+     */
+    private static final char CR = '\r';
+
+    /**
+     * A line feed character.
+     */
+    private static final char LF = '\n';
+
+    /**
+     * Creates a new line ending rewriter.
+     */
+    private EolRewriter() {
+        // This is intentionally left empty
+    }
+
+    /**
+     * Replaces each carriage return and line feed character in the supplied string with the supplied replacement. If
+     * the string doesn't contain any line endings, the original string is returned.
+     *
+     * @param aString A string whose line endings should be rewritten
+     * @param aReplacement A replacement for each carriage return or line feed character
+     * @return A string with its line endings rewritten
+     */
+    static String rewrite(final String aString, final String aReplacement) {
+        final int length = aString.length();
+        int index = 0;
+
+        // Fast path: most messages don't contain any line endings
+        while (index < length && !isEOL(aString.charAt(index))) {
+            index += 1;
+        }
+
+        if (index == length) {
+            return aString;
+        }
+
+        final StringBuilder builder = new StringBuilder(length + aReplacement.length() * 2);
+
+        builder.append(aString, 0, index);
+
+        for (; index < length; index++) {
+            final char character = aString.charAt(index);
+
+            if (isEOL(character)) {
+                builder.append(aReplacement);
+            } else {
+                builder.append(character);
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Returns whether the supplied character is a carriage return or line feed.
+     *
+     * @param aChar A character to check
+     * @return True if the character is a carriage return or line feed; else, false
+     */
+    private static boolean isEOL(final char aChar) {
+        return aChar == LF || aChar == CR;
+    }
+}
@@ -0,0 +1,23 @@
+
+package info.freelibrary.util;
+
+import java.util.Set;
+
+import info.freelibrary.util.warnings.PMD;
+
+/**
+ * A service that names the resource bundles a library or application uses, so they can be preloaded at startup by
+ * {@link I18nBundles#preloadDiscovered(java.util.Locale...)}. Providers are found with
+ * {@link java.util.ServiceLoader}, so an implementation should be listed in a
+ * <code>META-INF/services/info.freelibrary.util.I18nBundleProvider</code> file.
+ */
+@SuppressWarnings({ PMD.IMPLICIT_FUNCTIONAL_INTERFACE })
+public interface I18nBundleProvider {
+
+    /**
+     * Gets the names of the resource bundles to preload.
+     *
+     * @return The names of resource bundles
+     */
+    Set<String> getBundleNames();
+}
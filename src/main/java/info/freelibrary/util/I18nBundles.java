@@ -0,0 +1,105 @@
+
+package info.freelibrary.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Utilities for warming up the resource bundles used by {@link I18nObject}s, {@link Logger}s, and the I18n
+ * exceptions. Loading a bundle parses its XML or properties file, so preloading them at startup keeps that work off
+ * the path of the first request that logs a message. Preloaded bundles are held in a shared cache, keyed by bundle
+ * name and locale, where later lookups find them. Bundle names are lower cased, just as they are when an
+ * {@link I18nObject} looks its bundle up, so a bundle can be preloaded under any spelling of its name.
+ */
+public final class I18nBundles {
+
+    /** The logger used by the bundle utilities. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(I18nBundles.class, MessageCodes.BUNDLE);
+
+    /**
+     * Creates a class of bundle utilities.
+     */
+    private I18nBundles() {
+        // This is intentionally left empty
+    }
+
+    /**
+     * Preloads the supplied resource bundles for the default locale.
+     *
+     * @param aBundleNames The names of resource bundles
+     * @return The number of bundles that were loaded
+     * @throws java.util.MissingResourceException If one of the bundles can't be found
+     */
+    public static int preload(final String... aBundleNames) {
+        return preload(Arrays.asList(aBundleNames), List.of(Locale.getDefault()));
+    }
+
+    /**
+     * Preloads the supplied resource bundles for each of the supplied locales. The bundles are loaded in parallel.
+     *
+     * @param aBundleNames The names of resource bundles
+     * @param aLocales The locales for which the bundles should be loaded
+     * @return The number of bundles that were loaded
+     * @throws java.util.MissingResourceException If one of the bundles can't be found
+     */
+    public static int preload(final Collection<String> aBundleNames, final Collection<Locale> aLocales) {
+        final List<Runnable> loads = new ArrayList<>(aBundleNames.size() * aLocales.size());
+        final long start = System.nanoTime();
+
+        for (final String bundleName : aBundleNames) {
+            for (final Locale locale : aLocales) {
+                loads.add(() -> BundleCache.get(bundleName, locale));
+            }
+        }
+
+        loads.parallelStream().forEach(Runnable::run);
+
+        LOGGER.debug(MessageCodes.UTIL_083, loads.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        return loads.size();
+    }
+
+    /**
+     * Preloads the resource bundles named by the {@link I18nBundleProvider}s on the class path, for each of the
+     * supplied locales (or for the default locale, if none are supplied).
+     *
+     * @param aLocales The locales for which the bundles should be loaded
+     * @return The number of bundles that were loaded
+     * @throws java.util.MissingResourceException If one of the bundles can't be found
+     */
+    public static int preloadDiscovered(final Locale... aLocales) {
+        final Set<String> bundleNames = new TreeSet<>();
+
+        for (final I18nBundleProvider provider : ServiceLoader.load(I18nBundleProvider.class)) {
+            bundleNames.addAll(provider.getBundleNames());
+        }
+
+        return preload(bundleNames, aLocales.length == 0 ? List.of(Locale.getDefault()) : Arrays.asList(aLocales));
+    }
+
+    /**
+     * Gets the metrics of the shared bundle cache, which can be registered with JMX.
+     *
+     * @return The bundle cache's metrics
+     */
+    public static BundleCacheMetrics getCacheMetrics() {
+        return BundleCache.METRICS;
+    }
+
+    /**
+     * Clears the shared bundle cache and resets its metrics. Bundles that are still in the {@link ResourceBundle}
+     * cache are found there the next time they're looked up.
+     */
+    public static void clearCache() {
+        BundleCache.clear();
+    }
+}
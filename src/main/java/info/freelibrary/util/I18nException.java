@@ -1,12 +1,20 @@
 
 package info.freelibrary.util;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
 import java.util.Locale;
 import java.util.Objects;
-import java.util.ResourceBundle;
 
 /**
  * An I18n'ed exception.
+ * <p>
+ * The exception's message is looked up and formatted when it's first requested, rather than when the exception is
+ * created, so an exception that's caught and discarded doesn't pay for building its message. The message's details
+ * are formatted then, too, so a detail that's changed after the exception is created is formatted as it is then. A
+ * message that can't be formatted (e.g., because its bundle or key is missing) falls back to its key and details.
+ * </p>
  */
 public class I18nException extends Exception {
 
@@ -20,6 +28,36 @@ public class I18nException extends Exception {
      */
     private static final Logger LOGGER = LoggerFactory.getLogger(I18nException.class, MessageCodes.BUNDLE);
 
+    /**
+     * The details of a message that doesn't have any.
+     */
+    private static final Object[] NO_DETAILS = {};
+
+    /**
+     * The name of the bundle of a message that's formatted when it's first requested.
+     */
+    private String myBundleName;
+
+    /**
+     * The locale of a message that's formatted when it's first requested.
+     */
+    private Locale myLocale;
+
+    /**
+     * The key of a message that's formatted when it's first requested.
+     */
+    private String myMessageKey;
+
+    /**
+     * The details of a message that's formatted when it's first requested.
+     */
+    private transient Object[] myDetails;
+
+    /**
+     * The message, once it has been formatted.
+     */
+    private String myMessage;
+
     /**
      * Constructs a new <code>I18nException</code>.
      */
@@ -34,7 +72,8 @@ public class I18nException extends Exception {
      * @param aMessageKey The message key to retrieve from the supplied bundle
      */
     public I18nException(final String aBundleName, final String aMessageKey) {
-        super(format(aBundleName, aMessageKey, (Object[]) new String[] {}));
+        super();
+        defer(null, aBundleName, aMessageKey);
     }
 
     /**
@@ -45,7 +84,8 @@ public class I18nException extends Exception {
      * @param aMessageKey The message key whose value should be retrieved from the supplied bundle
      */
     public I18nException(final Locale aLocale, final String aBundleName, final String aMessageKey) {
-        super(format(aLocale, aBundleName, aMessageKey));
+        super();
+        defer(aLocale, aBundleName, aMessageKey);
     }
 
     /**
@@ -57,7 +97,8 @@ public class I18nException extends Exception {
      * @param aVarargs The additional details to pass into the exception
      */
     public I18nException(final String aBundleName, final String aMessageKey, final Object... aVarargs) {
-        super(format(aBundleName, aMessageKey, aVarargs));
+        super();
+        defer(null, aBundleName, aMessageKey, aVarargs);
     }
 
     /**
@@ -71,7 +112,8 @@ public class I18nException extends Exception {
      */
     public I18nException(final Locale aLocale, final String aBundleName, final String aMessageKey,
             final Object... aVarargs) {
-        super(format(aLocale, aBundleName, aMessageKey, aVarargs));
+        super();
+        defer(aLocale, aBundleName, aMessageKey, aVarargs);
     }
 
     /**
@@ -91,7 +133,8 @@ public class I18nException extends Exception {
      * @param aMessageKey The key to use when looking up the message
      */
     public I18nException(final Throwable aCause, final String aBundleName, final String aMessageKey) {
-        super(format(aBundleName, aMessageKey), aCause);
+        super(null, aCause);
+        defer(null, aBundleName, aMessageKey);
     }
 
     /**
@@ -104,7 +147,8 @@ public class I18nException extends Exception {
      */
     public I18nException(final Throwable aCause, final Locale aLocale, final String aBundleName,
             final String aMessageKey) {
-        super(format(aLocale, aBundleName, aMessageKey), aCause);
+        super(null, aCause);
+        defer(aLocale, aBundleName, aMessageKey);
     }
 
     /**
@@ -117,7 +161,8 @@ public class I18nException extends Exception {
      */
     public I18nException(final Throwable aCause, final String aBundleName, final String aMessageKey,
             final Object... aVarargs) {
-        super(format(aBundleName, aMessageKey, aVarargs), aCause);
+        super(null, aCause);
+        defer(null, aBundleName, aMessageKey, aVarargs);
     }
 
     /**
@@ -132,19 +177,139 @@ public class I18nException extends Exception {
      */
     public I18nException(final Throwable aCause, final Locale aLocale, final String aBundleName,
             final String aMessageKey, final Object... aVarargs) {
-        super(format(aLocale, aBundleName, aMessageKey, aVarargs), aCause);
+        super(null, aCause);
+        defer(aLocale, aBundleName, aMessageKey, aVarargs);
     }
 
     /**
-     * Constructs our I18n exception message using the supplied bundle name.
+     * Constructs a new <code>I18nException</code> whose message is formatted when it's first requested. A lightweight
+     * exception doesn't capture a stack trace, so it's cheap to create and throw when it's used for control flow.
      *
-     * @param aBundleName A name of a bundle in which to look up the supplied key.
-     * @param aMessageKey A key value to look up in the <code>ResourceBundle</code>.
-     * @param aVarargs Additional details to use in formatting the message.
-     * @return A formatted exception message
+     * @param aLightweight Whether the exception should skip capturing a stack trace
+     * @param aCause The underlying cause of the current exception, or null if there isn't one
+     * @param aLocale The locale to use when formatting the message, or null for the default locale
+     * @param aBundleName The name of the resource bundle to use
+     * @param aMessageKey The key to use when looking up the message
+     * @param aVarargs The additional details to add to the exception message
+     */
+    protected I18nException(final boolean aLightweight, final Throwable aCause, final Locale aLocale,
+            final String aBundleName, final String aMessageKey, final Object... aVarargs) {
+        super(null, aCause, true, !aLightweight);
+        defer(aLocale, aBundleName, aMessageKey, aVarargs);
+    }
+
+    /**
+     * Creates a lightweight <code>I18nException</code>, which doesn't capture a stack trace and doesn't format its
+     * message until it's first requested.
+     *
+     * @param aBundleName The name of the resource bundle to use
+     * @param aMessageKey The key to use when looking up the message
+     * @param aVarargs The additional details to add to the exception message
+     * @return A lightweight exception
+     */
+    public static I18nException lightweight(final String aBundleName, final String aMessageKey,
+            final Object... aVarargs) {
+        return new I18nException(true, null, null, aBundleName, aMessageKey, aVarargs);
+    }
+
+    /**
+     * Creates a lightweight <code>I18nException</code> with the supplied cause. The exception doesn't capture a stack
+     * trace and doesn't format its message until it's first requested.
+     *
+     * @param aCause The underlying cause of the current exception
+     * @param aBundleName The name of the resource bundle to use
+     * @param aMessageKey The key to use when looking up the message
+     * @param aVarargs The additional details to add to the exception message
+     * @return A lightweight exception
+     */
+    public static I18nException lightweight(final Throwable aCause, final String aBundleName,
+            final String aMessageKey, final Object... aVarargs) {
+        return new I18nException(true, aCause, null, aBundleName, aMessageKey, aVarargs);
+    }
+
+    /**
+     * Gets the exception's message. A message that hasn't been formatted yet is formatted the first time it's
+     * requested.
+     *
+     * @return The exception's message
      */
-    private static String format(final String aBundleName, final String aMessageKey, final Object... aVarargs) {
-        return format(null, aBundleName, aMessageKey, aVarargs);
+    @Override
+    public String getMessage() {
+        String message = myMessage;
+
+        if (message == null && myMessageKey != null) {
+            // Strings are immutable, so threads that race here just format the same message
+            message = render(myLocale);
+            myMessage = message;
+        }
+
+        return message == null ? super.getMessage() : message;
+    }
+
+    /**
+     * Gets the exception's message in the supplied locale. The message is formatted again each time it's requested in
+     * a locale other than the one the exception was created with. An exception that has been deserialized no longer
+     * has its message details, so it always returns the message it was serialized with.
+     *
+     * @param aLocale The locale in which to render the message
+     * @return The exception's message
+     */
+    public String getMessage(final Locale aLocale) {
+        final Locale locale = myLocale == null ? Locale.getDefault() : myLocale;
+
+        if (myMessageKey == null || myDetails == null || locale.equals(aLocale)) {
+            return getMessage();
+        }
+
+        return render(aLocale);
+    }
+
+    /**
+     * Formats the exception's message in the supplied locale. A message that can't be formatted falls back to its key
+     * and details, since the exception's message is requested while it's being reported, far from where it was thrown.
+     *
+     * @param aLocale The locale in which to format the message, or null for the default locale
+     * @return The exception's message
+     */
+    private String render(final Locale aLocale) {
+        try {
+            return format(aLocale, myBundleName, myMessageKey, myDetails);
+        } catch (final RuntimeException details) {
+            LOGGER.warn(MessageCodes.UTIL_092, myMessageKey, myBundleName, details.toString());
+
+            if (myDetails == null || myDetails.length == 0) {
+                return myMessageKey;
+            }
+
+            return myMessageKey + Constants.SPACE + Arrays.toString(myDetails);
+        }
+    }
+
+    /**
+     * Stores the details of a message that's formatted when it's first requested.
+     *
+     * @param aLocale The locale to use when formatting the message, or null for the default locale
+     * @param aBundleName The name of the resource bundle to use
+     * @param aMessageKey The key to use when looking up the message
+     * @param aVarargs The additional details to add to the exception message
+     */
+    private void defer(final Locale aLocale, final String aBundleName, final String aMessageKey,
+            final Object... aVarargs) {
+        myBundleName = Objects.requireNonNull(aBundleName, () -> LOGGER.getI18n(MessageCodes.UTIL_016));
+        myMessageKey = Objects.requireNonNull(aMessageKey, () -> LOGGER.getI18n(MessageCodes.UTIL_018));
+        myLocale = aLocale;
+        myDetails = aVarargs == null || aVarargs.length == 0 ? NO_DETAILS : aVarargs.clone();
+    }
+
+    /**
+     * Formats the message before the exception is serialized, since its details may not be serializable.
+     *
+     * @param aOutStream The stream to which the exception is written
+     * @throws IOException If the exception can't be written
+     */
+    private void writeObject(final ObjectOutputStream aOutStream) throws IOException {
+        getMessage();
+        aOutStream.defaultWriteObject();
     }
 
     /**
@@ -158,21 +323,17 @@ public class I18nException extends Exception {
      */
     private static String format(final Locale aLocale, final String aBundleName, final String aMessageKey,
             final Object... aVarargs) {
-        Objects.requireNonNull(aBundleName, LOGGER.getI18n(MessageCodes.UTIL_016));
-        Objects.requireNonNull(aMessageKey, LOGGER.getI18n(MessageCodes.UTIL_018));
-
         LOGGER.debug(MessageCodes.UTIL_017, aBundleName);
 
         final I18nResourceBundle bundle;
         final String message;
 
         if (aLocale != null) {
-            LOGGER.debug(MessageCodes.UTIL_019, aLocale.toString());
-            bundle = (I18nResourceBundle) ResourceBundle.getBundle(aBundleName, aLocale, new CustomBundleControl());
-        } else {
-            bundle = (I18nResourceBundle) ResourceBundle.getBundle(aBundleName, new CustomBundleControl());
+            LOGGER.debug(MessageCodes.UTIL_019, aLocale);
         }
 
+        bundle = BundleCache.get(aBundleName, aLocale);
+
         if (aVarargs != null && aVarargs.length > 0) {
             LOGGER.debug(MessageCodes.UTIL_020, aMessageKey, aVarargs, aVarargs.getClass().getSimpleName());
 
@@ -34,8 +34,7 @@ public class I18nObject {
      * @param aBundleName The name of a {@link ResourceBundle} that gets lower cased automatically
      */
     public I18nObject(final String aBundleName) {
-        myBundle = (I18nResourceBundle) ResourceBundle.getBundle(aBundleName.toLowerCase(Locale.getDefault()),
-                new CustomBundleControl());
+        myBundle = BundleCache.get(aBundleName, null);
     }
 
     /**
@@ -43,11 +42,11 @@ public class I18nObject {
      * something specific to the package that's extending the <code>I18nObject</code>.
      *
      * @param aBundleName The name of a {@link ResourceBundle} that gets lower cased automatically
-     * @param aLocale The locale of the desired bundle.
+     * @param aLocale The locale whose rules are used to lower case the bundle name; the bundle itself is loaded for
+     *        the default locale
      */
     public I18nObject(final String aBundleName, final Locale aLocale) {
-        myBundle = (I18nResourceBundle) ResourceBundle.getBundle(aBundleName.toLowerCase(aLocale),
-                new CustomBundleControl());
+        myBundle = BundleCache.get(aBundleName.toLowerCase(aLocale), null);
     }
 
     /**
@@ -57,7 +56,7 @@ public class I18nObject {
      * @return An internationalized value
      */
     protected String getI18n(final String aMessageKey) {
-        return StringUtils.normalizeWS(myBundle.get(aMessageKey));
+        return myBundle.getTemplate(aMessageKey).toString();
     }
 
     /**
@@ -68,7 +67,7 @@ public class I18nObject {
      * @return The internationalized message
      */
     protected String getI18n(final String aMessageKey, final long aLongDetail) {
-        return StringUtils.normalizeWS(myBundle.get(aMessageKey, Long.toString(aLongDetail)));
+        return StringUtils.normalizeWS(myBundle.getTemplate(aMessageKey).format(Long.toString(aLongDetail)));
     }
 
     /**
@@ -79,7 +78,7 @@ public class I18nObject {
      * @return The internationalized message
      */
     protected String getI18n(final String aMessageKey, final int aIntDetail) {
-        return StringUtils.normalizeWS(myBundle.get(aMessageKey, Integer.toString(aIntDetail)));
+        return StringUtils.normalizeWS(myBundle.getTemplate(aMessageKey).format(Integer.toString(aIntDetail)));
     }
 
     /**
@@ -90,7 +89,7 @@ public class I18nObject {
      * @return The internationalized message
      */
     protected String getI18n(final String aMessageKey, final String aDetail) {
-        return StringUtils.normalizeWS(myBundle.get(aMessageKey, aDetail));
+        return StringUtils.normalizeWS(myBundle.getTemplate(aMessageKey).format(aDetail));
     }
 
     /**
@@ -101,7 +100,7 @@ public class I18nObject {
      * @return The internationalized message
      */
     protected String getI18n(final String aMessageKey, final String... aDetailsArray) {
-        return StringUtils.normalizeWS(myBundle.get(aMessageKey, aDetailsArray));
+        return StringUtils.normalizeWS(myBundle.getTemplate(aMessageKey).format(aDetailsArray));
     }
 
     /**
@@ -112,7 +111,7 @@ public class I18nObject {
      * @return The internationalized message
      */
     protected String getI18n(final String aMessageKey, final Exception aException) {
-        return StringUtils.normalizeWS(myBundle.get(aMessageKey, aException.getMessage()));
+        return StringUtils.normalizeWS(myBundle.getTemplate(aMessageKey).format(aException.getMessage()));
     }
 
     /**
@@ -123,7 +122,7 @@ public class I18nObject {
      * @return The internationalized message
      */
     protected String getI18n(final String aMessageKey, final File aFile) {
-        return StringUtils.normalizeWS(myBundle.get(aMessageKey, aFile.getAbsolutePath()));
+        return StringUtils.normalizeWS(myBundle.getTemplate(aMessageKey).format(aFile.getAbsolutePath()));
     }
 
     /**
@@ -140,7 +139,7 @@ public class I18nObject {
             fileNames[index] = aFileArray[index].getAbsolutePath();
         }
 
-        return StringUtils.normalizeWS(myBundle.get(aMessageKey, fileNames));
+        return StringUtils.normalizeWS(myBundle.getTemplate(aMessageKey).format(fileNames));
     }
 
     /**
@@ -161,7 +160,7 @@ public class I18nObject {
             }
         }
 
-        return StringUtils.normalizeWS(myBundle.get(aMessageKey, strings));
+        return StringUtils.normalizeWS(myBundle.getTemplate(aMessageKey).format(strings));
     }
 
     /**
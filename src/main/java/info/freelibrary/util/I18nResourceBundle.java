@@ -102,6 +102,22 @@ interface I18nResourceBundle {
      */
     String get(Object aObject);
 
+    /**
+     * Gets the compiled message template for the supplied key, with its white space already normalized.
+     *
+     * @param aKey A message key
+     * @return The compiled message template with its white space normalized
+     */
+    MessageTemplate getTemplate(String aKey);
+
+    /**
+     * Finds the compiled message template for the supplied key in this bundle or its parents.
+     *
+     * @param aKey A message key
+     * @return The compiled message template with its white space normalized, or null if the key isn't found
+     */
+    MessageTemplate findTemplate(String aKey);
+
     /**
      * Returns true if the supplied key is found in the internal bundle; else, false.
      *
@@ -0,0 +1,260 @@
+
+package info.freelibrary.util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+
+/**
+ * A compact, immutable sequence of integers made up of one or more inclusive ranges, like <code>1-5,9,20-30</code>.
+ * Only the ends of each range are stored, so a wide range (e.g. <code>1-100000000</code>) takes no more memory than a
+ * narrow one; its values can be streamed, iterated, and tested for without being materialized.
+ */
+public final class IntRange implements Iterable<Integer> {
+
+    /** The delimiter between the start and end of a range. */
+    private static final char RANGE_DELIMITER = '-';
+
+    /** The delimiter between the ranges in a multi-range. */
+    private static final String LIST_DELIMITER = ",";
+
+    /** The largest number of values that can be put in an array. */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /** The logger used by integer ranges. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(IntRange.class, MessageCodes.BUNDLE);
+
+    /** The first values of the ranges. */
+    private final int[] myStarts;
+
+    /** The last values of the ranges. */
+    private final int[] myEnds;
+
+    /** The total number of values in the ranges. */
+    private final long mySize;
+
+    /**
+     * Creates a sequence of integers from the supplied range ends.
+     *
+     * @param aStarts The first values of the ranges
+     * @param aEnds The last values of the ranges
+     */
+    private IntRange(final int[] aStarts, final int[] aEnds) {
+        long size = 0;
+
+        for (int index = 0; index < aStarts.length; index++) {
+            size += (long) aEnds[index] - aStarts[index] + 1;
+        }
+
+        myStarts = aStarts;
+        myEnds = aEnds;
+        mySize = size;
+    }
+
+    /**
+     * Creates a range of integers.
+     *
+     * @param aStart The first value in the range
+     * @param aEnd The last value in the range
+     * @return The range of integers
+     * @throws NumberFormatException If the range's end is less than its start
+     */
+    public static IntRange of(final int aStart, final int aEnd) {
+        checkOrder(aStart, aEnd);
+        return new IntRange(new int[] { aStart }, new int[] { aEnd });
+    }
+
+    /**
+     * Parses a string with one or more comma-separated integers or integer ranges (e.g., <code>2-5</code> or
+     * <code>1-5,9,20-30</code>). The values are kept in the order they're given.
+     *
+     * @param aIntRange A string representation of integers and integer ranges
+     * @return The parsed sequence of integers
+     * @throws NumberFormatException If the supplied string isn't a list of integers and integer ranges
+     */
+    public static IntRange parse(final String aIntRange) {
+        final String[] ranges = aIntRange.split(LIST_DELIMITER, -1);
+        final int[] starts = new int[ranges.length];
+        final int[] ends = new int[ranges.length];
+
+        for (int index = 0; index < ranges.length; index++) {
+            final String range = ranges[index].trim();
+            final int delimiter = range.indexOf(RANGE_DELIMITER, 1); // A leading minus sign isn't a delimiter
+
+            if (delimiter == -1) {
+                starts[index] = Integer.parseInt(range);
+                ends[index] = starts[index];
+            } else {
+                starts[index] = Integer.parseInt(range.substring(0, delimiter).trim());
+                ends[index] = Integer.parseInt(range.substring(delimiter + 1).trim());
+                checkOrder(starts[index], ends[index]);
+            }
+        }
+
+        return new IntRange(starts, ends);
+    }
+
+    /**
+     * Gets the number of values in the sequence.
+     *
+     * @return The number of values in the sequence
+     */
+    public long size() {
+        return mySize;
+    }
+
+    /**
+     * Returns whether the sequence contains the supplied value.
+     *
+     * @param aValue A value
+     * @return True if the value is in one of the sequence's ranges; else, false
+     */
+    public boolean contains(final int aValue) {
+        for (int index = 0; index < myStarts.length; index++) {
+            if (aValue >= myStarts[index] && aValue <= myEnds[index]) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Gets a stream of the values in the sequence, in order. The values are generated as they're consumed.
+     *
+     * @return A stream of the values in the sequence
+     */
+    public IntStream stream() {
+        return IntStream.range(0, myStarts.length).flatMap(index -> IntStream.rangeClosed(myStarts[index],
+                myEnds[index]));
+    }
+
+    /**
+     * Gets an iterator over the values in the sequence, in order. The values are generated as they're iterated.
+     *
+     * @return An iterator over the values in the sequence
+     */
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new RangeIterator();
+    }
+
+    /**
+     * Puts the values in the sequence in an array.
+     *
+     * @return An array of the values in the sequence
+     * @throws IllegalStateException If the sequence has too many values to put in an array
+     */
+    public int[] toArray() {
+        final int[] values;
+        int position = 0;
+
+        if (mySize > MAX_ARRAY_SIZE) {
+            throw new IllegalStateException(LOGGER.getI18n(MessageCodes.UTIL_090, this, mySize));
+        }
+
+        values = new int[(int) mySize];
+
+        for (int index = 0; index < myStarts.length; index++) {
+            for (long value = myStarts[index]; value <= myEnds[index]; value++) {
+                values[position++] = (int) value;
+            }
+        }
+
+        return values;
+    }
+
+    @Override
+    public boolean equals(final Object aObject) {
+        if (this == aObject) {
+            return true;
+        }
+
+        if (!(aObject instanceof IntRange)) {
+            return false;
+        }
+
+        final IntRange other = (IntRange) aObject;
+        return Arrays.equals(myStarts, other.myStarts) && Arrays.equals(myEnds, other.myEnds);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(myStarts) + Arrays.hashCode(myEnds);
+    }
+
+    /**
+     * Returns the sequence in the form it's parsed from (e.g., <code>1-5,9,20-30</code>).
+     *
+     * @return The string form of the sequence
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+
+        for (int index = 0; index < myStarts.length; index++) {
+            if (index > 0) {
+                builder.append(LIST_DELIMITER);
+            }
+
+            builder.append(myStarts[index]);
+
+            if (myEnds[index] != myStarts[index]) {
+                builder.append(RANGE_DELIMITER).append(myEnds[index]);
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Checks that a range's end isn't less than its start.
+     *
+     * @param aStart The first value in a range
+     * @param aEnd The last value in a range
+     * @throws NumberFormatException If the range's end is less than its start
+     */
+    private static void checkOrder(final int aStart, final int aEnd) {
+        if (aEnd < aStart) {
+            throw new NumberFormatException(LOGGER.getI18n(MessageCodes.UTIL_045, aStart, RANGE_DELIMITER, aEnd));
+        }
+    }
+
+    /**
+     * An iterator over the values in the sequence.
+     */
+    private final class RangeIterator implements PrimitiveIterator.OfInt {
+
+        /** The index of the range that holds the next value. */
+        private int myRange;
+
+        /** The next value. */
+        private int myNext = myStarts.length > 0 ? myStarts[0] : 0;
+
+        @Override
+        public boolean hasNext() {
+            return myRange < myStarts.length;
+        }
+
+        @Override
+        public int nextInt() {
+            final int value;
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            value = myNext;
+
+            if (myNext == myEnds[myRange]) {
+                myRange++;
+                myNext = myRange < myStarts.length ? myStarts[myRange] : 0;
+            } else {
+                myNext++;
+            }
+
+            return value;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+
+package info.freelibrary.util;
+
+import java.util.function.Supplier;
+
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+
+/**
+ * A fluent builder for a single logging event. Builders are only created for enabled levels; for a disabled level,
+ * {@link Logger#event(Level)} returns a shared builder that ignores everything it's given. Suppliers added with
+ * {@link #arg(Supplier)} are only evaluated when the event is logged.
+ * <p>
+ * An event with one or two arguments and no cause is logged without an array. Only two arguments, rather than up to
+ * four, are held in fields: SLF4J has no methods for three or more arguments, or for a cause and arguments together,
+ * so those events would be copied into an array anyway, and are logged with an array of their arguments.
+ * </p>
+ */
+public final class LogEventBuilder {
+
+    /** A shared builder for events whose level isn't enabled. */
+    static final LogEventBuilder DISABLED = new LogEventBuilder(null, null);
+
+    /** The maximum number of arguments that are held without an array. */
+    private static final int MAX_FIELD_ARGS = 2;
+
+    /** The arguments of an event that doesn't have any. */
+    private static final Object[] NO_ARGS = {};
+
+    /** The logger that logs the event. */
+    private final Logger myLogger;
+
+    /** The level of the event. */
+    private final Level myLevel;
+
+    /** A marker for the event. */
+    private Marker myMarker;
+
+    /** A throwable for the event. */
+    private Throwable myCause;
+
+    /** The first argument. */
+    private Object myArg1;
+
+    /** The second argument. */
+    private Object myArg2;
+
+    /** Arguments after the second. */
+    private Object[] myMoreArgs;
+
+    /** The number of arguments. */
+    private int myArgCount;
+
+    /**
+     * Creates a new logging event builder.
+     *
+     * @param aLogger The logger that logs the event
+     * @param aLevel The level of the event
+     */
+    LogEventBuilder(final Logger aLogger, final Level aLevel) {
+        myLogger = aLogger;
+        myLevel = aLevel;
+    }
+
+    /**
+     * Sets a marker for the event.
+     *
+     * @param aMarker A marker for the event
+     * @return This builder
+     */
+    public LogEventBuilder marker(final Marker aMarker) {
+        if (myLogger != null) {
+            myMarker = aMarker;
+        }
+
+        return this;
+    }
+
+    /**
+     * Sets a throwable for the event.
+     *
+     * @param aCause A throwable for the event
+     * @return This builder
+     */
+    public LogEventBuilder cause(final Throwable aCause) {
+        if (myLogger != null) {
+            myCause = aCause;
+        }
+
+        return this;
+    }
+
+    /**
+     * Adds an argument for the event's message.
+     *
+     * @param aArg An argument for the message
+     * @return This builder
+     */
+    public LogEventBuilder arg(final Object aArg) {
+        if (myLogger != null) {
+            switch (myArgCount) {
+                case 0 -> myArg1 = aArg;
+                case 1 -> myArg2 = aArg;
+                default -> addMoreArg(aArg);
+            }
+
+            myArgCount += 1;
+        }
+
+        return this;
+    }
+
+    /**
+     * Adds an argument for the event's message whose value is only computed if the event is logged.
+     *
+     * @param aSupplier A supplier of an argument for the message
+     * @return This builder
+     */
+    public LogEventBuilder arg(final Supplier<?> aSupplier) {
+        return arg((Object) new LazyArg(aSupplier));
+    }
+
+    /**
+     * Logs the event with the supplied message or message key.
+     *
+     * @param aMessage A message or message key
+     */
+    public void log(final String aMessage) {
+        if (myLogger == null) {
+            return;
+        }
+
+        if (myCause == null && myArgCount == 1) {
+            myLogger.writeDetail(myLevel, myMarker, aMessage, resolve(myArg1));
+        } else if (myCause == null && myArgCount == 2) {
+            myLogger.writeDetails(myLevel, myMarker, aMessage, resolve(myArg1), resolve(myArg2));
+        } else {
+            myLogger.write(myLevel, myMarker, aMessage, myCause, getArgs());
+        }
+    }
+
+    /**
+     * Gets the event's arguments as an array, with any suppliers evaluated.
+     *
+     * @return The event's arguments
+     */
+    private Object[] getArgs() {
+        final Object[] args;
+
+        if (myArgCount == 0) {
+            return NO_ARGS;
+        }
+
+        args = new Object[myArgCount];
+
+        for (int index = 0; index < myArgCount; index++) {
+            args[index] = resolve(switch (index) {
+                case 0 -> myArg1;
+                case 1 -> myArg2;
+                default -> myMoreArgs[index - MAX_FIELD_ARGS];
+            });
+        }
+
+        return args;
+    }
+
+    /**
+     * Adds an argument after the second.
+     *
+     * @param aArg An argument for the message
+     */
+    private void addMoreArg(final Object aArg) {
+        final int index = myArgCount - MAX_FIELD_ARGS;
+
+        if (myMoreArgs == null) {
+            myMoreArgs = new Object[MAX_FIELD_ARGS];
+        } else if (index == myMoreArgs.length) {
+            final Object[] moreArgs = new Object[index * 2];
+
+            System.arraycopy(myMoreArgs, 0, moreArgs, 0, index);
+            myMoreArgs = moreArgs;
+        }
+
+        myMoreArgs[index] = aArg;
+    }
+
+    /**
+     * Evaluates the supplied argument if it was added as a supplier. Other arguments, including ones that happen to
+     * implement {@link Supplier}, are logged as they are.
+     *
+     * @param aArg An argument for the message
+     * @return The argument's value
+     */
+    private static Object resolve(final Object aArg) {
+        return aArg instanceof LazyArg ? ((LazyArg) aArg).get() : aArg;
+    }
+
+    /**
+     * An argument that was added as a supplier.
+     *
+     * @param supplier A supplier of an argument for the message
+     */
+    private record LazyArg(Supplier<?> supplier) {
+
+        /**
+         * Gets the supplier's value.
+         *
+         * @return The supplier's value, or null if there's no supplier
+         */
+        private Object get() {
+            return supplier == null ? null : supplier.get();
+        }
+    }
+}
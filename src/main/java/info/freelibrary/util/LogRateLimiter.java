@@ -0,0 +1,148 @@
+
+package info.freelibrary.util;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits how often a {@link Logger} writes the same message. Each message key (or message template) gets its own
+ * token bucket that allows a burst of messages and then refills at a steady rate; messages that arrive while a
+ * bucket is empty are suppressed and counted. The next message that's allowed through is preceded by a summary of how
+ * many similar messages were suppressed, so a continuous flood is reduced to a trickle of messages that each report
+ * how many were skipped.
+ * <p>
+ * Each bucket is a single atomic timestamp (the generic cell rate algorithm), so checking a message takes one
+ * compare-and-set and no locks.
+ * </p>
+ */
+public final class LogRateLimiter {
+
+    /** The logger used by the log rate limiter. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(LogRateLimiter.class, MessageCodes.BUNDLE);
+
+    /** The maximum number of messages that are tracked; messages beyond it aren't limited. */
+    private static final int MAX_KEYS = 4096;
+
+    /** The value returned when a message should be suppressed. */
+    static final long SUPPRESSED = -1;
+
+    /** The buckets for each message key or template. */
+    private final ConcurrentMap<String, Bucket> myBuckets = new ConcurrentHashMap<>();
+
+    /** The total number of messages that have been suppressed. */
+    private final LongAdder mySuppressedCount = new LongAdder();
+
+    /** The time between tokens, in nanoseconds. */
+    private final long myEmissionInterval;
+
+    /** How far ahead of the current time a bucket's next token may be scheduled, in nanoseconds. */
+    private final long myTolerance;
+
+    /**
+     * Creates a new log rate limiter that allows a burst of messages per key within each interval.
+     *
+     * @param aBurst The number of identical messages allowed within an interval
+     * @param aInterval The interval over which the burst refills
+     * @throws IllegalArgumentException If the burst isn't a positive number or the interval isn't positive
+     */
+    public LogRateLimiter(final int aBurst, final Duration aInterval) {
+        if (aBurst < 1 || aInterval.isNegative() || aInterval.isZero()) {
+            throw new IllegalArgumentException(LOGGER.getI18n(MessageCodes.UTIL_081, aBurst, aInterval));
+        }
+
+        myEmissionInterval = Math.max(1, aInterval.toNanos() / aBurst);
+        myTolerance = myEmissionInterval * (aBurst - 1);
+    }
+
+    /**
+     * Gets the total number of messages that have been suppressed.
+     *
+     * @return The number of suppressed messages
+     */
+    public long getSuppressedCount() {
+        return mySuppressedCount.sum();
+    }
+
+    /**
+     * Forgets the state of all the limiter's buckets.
+     */
+    public void reset() {
+        myBuckets.clear();
+    }
+
+    /**
+     * Checks whether a message with the supplied key or template may be written.
+     *
+     * @param aKey A message key or template
+     * @return {@link #SUPPRESSED} if the message should be suppressed; else, the number of similar messages that were
+     *         suppressed since the last one was written
+     */
+    long acquire(final String aKey) {
+        Bucket bucket = myBuckets.get(aKey);
+
+        if (bucket == null) {
+            if (myBuckets.size() >= MAX_KEYS) {
+                return 0;
+            }
+
+            bucket = myBuckets.computeIfAbsent(aKey, key -> new Bucket());
+        }
+
+        if (bucket.tryAcquire(System.nanoTime())) {
+            return bucket.mySuppressed.getAndSet(0);
+        }
+
+        bucket.mySuppressed.incrementAndGet();
+        mySuppressedCount.increment();
+
+        return SUPPRESSED;
+    }
+
+    /**
+     * Gets a summary of the messages that were suppressed for the supplied key or template.
+     *
+     * @param aCount The number of suppressed messages
+     * @param aKey A message key or template
+     * @return A summary of the suppressed messages
+     */
+    static String getSummary(final long aCount, final String aKey) {
+        return LOGGER.getI18n(MessageCodes.UTIL_082, aCount, aKey);
+    }
+
+    /**
+     * A token bucket for a single message key or template.
+     */
+    private final class Bucket {
+
+        /** The theoretical arrival time of the next message, in nanoseconds. */
+        private final AtomicLong myArrivalTime = new AtomicLong(System.nanoTime());
+
+        /** The number of messages suppressed since the last one was written. */
+        private final AtomicLong mySuppressed = new AtomicLong();
+
+        /**
+         * Tries to take a token from the bucket.
+         *
+         * @param aNow The current time, in nanoseconds
+         * @return True if a token was taken; else, false
+         */
+        private boolean tryAcquire(final long aNow) {
+            long arrivalTime;
+            long next;
+
+            do {
+                arrivalTime = myArrivalTime.get();
+                next = arrivalTime - aNow > 0 ? arrivalTime : aNow;
+
+                if (next - aNow > myTolerance) {
+                    return false;
+                }
+            } while (!myArrivalTime.compareAndSet(arrivalTime, next + myEmissionInterval));
+
+            return true;
+        }
+    }
+}
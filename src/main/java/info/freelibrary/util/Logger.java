@@ -2,12 +2,17 @@
 package info.freelibrary.util;
 
 import info.freelibrary.util.warnings.PMD;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
 import org.slf4j.MDC;
 import org.slf4j.MDC.MDCCloseable;
 import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
 
 import static info.freelibrary.util.Constants.COLON;
-import static info.freelibrary.util.Constants.SPACE;
 
 /**
  * Creates a SLF4J logger that is backed by a {@link java.util.ResourceBundle}.
@@ -16,20 +21,85 @@ import static info.freelibrary.util.Constants.SPACE;
 public class Logger extends I18nObject implements org.slf4j.Logger {
 
     /**
-     * An end of line regular expression pattern in string form.
+     * The name of a system property (or bundle entry) that can turn off line number capture; it defaults to true.
      */
-    private static final String EOL_RE = "(\\n|\\r|\\r\\n)";
+    public static final String LINE_NUMBERS_PROPERTY = "freelib.logger.line-numbers";
+
+    /**
+     * The name of a system property that, when true, publishes the EOL handling selected by a marker to the MDC.
+     */
+    public static final String EOL_MODE_MDC_PROPERTY = "freelib.logger.eol-mode-mdc";
+
+    /**
+     * The name of a system property that, when true, turns on event counting for new loggers; it defaults to false.
+     */
+    public static final String METRICS_PROPERTY = "freelib.logger.metrics";
+
+    /**
+     * The name of a system property that, when true, turns on structured logging for new loggers; it defaults to false.
+     */
+    public static final String STRUCTURED_PROPERTY = "freelib.logger.structured";
+
+    /**
+     * The name of the key/value pair that holds a structured event's I18n message key.
+     */
+    public static final String MESSAGE_KEY = "messageKey";
+
+    /**
+     * The name of the key/value pair that holds a structured event's message arguments.
+     */
+    public static final String MESSAGE_ARGS = "messageArgs";
+
+    /**
+     * Whether the EOL handling selected by a marker is published to the MDC.
+     */
+    private static final boolean PUBLISH_EOL_MODE = Boolean.getBoolean(EOL_MODE_MDC_PROPERTY);
 
     /**
      * A constant representing line number.
      */
     private static final String LINE_NUM = "line";
 
+    /**
+     * A stack walker used to find the line number of the logging call.
+     */
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
     /**
      * A wrapped SLF4J logger.
      */
     private final org.slf4j.Logger myLogger;
 
+    /**
+     * Whether line numbers are captured when debugging is enabled.
+     */
+    private volatile boolean myLineNumbersEnabled;
+
+    /**
+     * A dispatcher that writes this logger's events on a background thread, if asynchronous logging is enabled.
+     */
+    private volatile AsyncLogDispatcher myDispatcher;
+
+    /**
+     * Counts of the events this logger has written, if metrics are enabled.
+     */
+    private volatile LoggerMetrics myMetrics;
+
+    /**
+     * A limiter that suppresses floods of identical messages, if rate limiting is enabled.
+     */
+    private volatile LogRateLimiter myRateLimiter;
+
+    /**
+     * Whether events are written through SLF4J's fluent API with their message key and arguments as key/value pairs.
+     */
+    private volatile boolean myStructured;
+
+    /**
+     * Whether events are routed somewhere other than the wrapped logger's plain logging methods.
+     */
+    private volatile boolean myRouted;
+
     /**
      * Creates a logger using the supplied class as the name.
      *
@@ -38,6 +108,10 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     Logger(final org.slf4j.Logger aLogger) {
         super();
         myLogger = aLogger;
+        myLineNumbersEnabled = Boolean.parseBoolean(System.getProperty(LINE_NUMBERS_PROPERTY, Constants.TRUE));
+        myMetrics = Boolean.getBoolean(METRICS_PROPERTY) ? new LoggerMetrics() : null;
+        myStructured = Boolean.getBoolean(STRUCTURED_PROPERTY);
+        myRouted = myStructured;
     }
 
     /**
@@ -48,24 +122,46 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
      */
     Logger(final org.slf4j.Logger aLogger, final String aBundleName) {
         super(aBundleName);
+
+        final String lineNumbers = System.getProperty(LINE_NUMBERS_PROPERTY, Constants.TRUE);
+
         myLogger = aLogger;
+
+        // A bundle can override the system-wide setting for the loggers that use it
+        if (hasI18nKey(LINE_NUMBERS_PROPERTY)) {
+            myLineNumbersEnabled = Boolean.parseBoolean(getI18n(LINE_NUMBERS_PROPERTY).trim());
+        } else {
+            myLineNumbersEnabled = Boolean.parseBoolean(lineNumbers);
+        }
+
+        myMetrics = Boolean.getBoolean(METRICS_PROPERTY) ? new LoggerMetrics() : null;
+        myStructured = Boolean.getBoolean(STRUCTURED_PROPERTY);
+        myRouted = myStructured;
     }
 
     @Override
     public void debug(final Marker aMarker, final String aMessage) {
         if (isDebugEnabled()) {
+            if (!admit(Level.DEBUG, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.DEBUG, aMarker, aMessage, null)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 // We can output different types of EOL based on marker
-                addMarker(aMarker);
+                final EolMode eolMode = addMarker(aMarker);
 
                 if (hasI18nKey(aMessage)) {
-                    myLogger.debug(aMarker, updateMessage(getI18n(aMessage)));
+                    myLogger.debug(aMarker, eolMode.apply(getI18n(aMessage)));
                 } else {
-                    myLogger.debug(aMarker, updateMessage(aMessage));
+                    myLogger.debug(aMarker, eolMode.apply(aMessage));
                 }
 
-                clearMarker();
+                clearMarker(eolMode);
             }
         }
     }
@@ -73,19 +169,27 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void debug(final Marker aMarker, final String aMessage, final Object aDetail) {
         if (isDebugEnabled()) {
+            if (!admit(Level.DEBUG, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.DEBUG, aMarker, aMessage, null, aDetail)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 // We can output different types of EOL based on marker
-                addMarker(aMarker);
+                final EolMode eolMode = addMarker(aMarker);
 
                 if (hasI18nKey(aMessage)) {
-                    final String message = updateMessage(aDetail.toString());
-                    myLogger.debug(aMarker, updateMessage(getI18n(aMessage)), message);
+                    final String message = eolMode.apply(String.valueOf(aDetail));
+                    myLogger.debug(aMarker, eolMode.apply(getI18n(aMessage)), message);
                 } else {
-                    myLogger.debug(aMarker, updateMessage(aMessage), updateMessage(aDetail.toString()));
+                    myLogger.debug(aMarker, eolMode.apply(aMessage), eolMode.apply(String.valueOf(aDetail)));
                 }
 
-                clearMarker();
+                clearMarker(eolMode);
             }
         }
     }
@@ -93,24 +197,32 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void debug(final Marker aMarker, final String aMessage, final Object... aDetails) {
         if (isDebugEnabled()) {
+            if (!admit(Level.DEBUG, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.DEBUG, aMarker, aMessage, null, aDetails)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 final Object[] details = new String[aDetails.length];
 
                 // We can output different types of EOL based on marker
-                addMarker(aMarker);
+                final EolMode eolMode = addMarker(aMarker);
 
                 for (int index = 0; index < aDetails.length; index++) {
-                    details[index] = updateMessage(aDetails[index].toString());
+                    details[index] = eolMode.apply(String.valueOf(aDetails[index]));
                 }
 
                 if (hasI18nKey(aMessage)) {
-                    myLogger.debug(aMarker, updateMessage(getI18n(aMessage)), details);
+                    myLogger.debug(aMarker, eolMode.apply(getI18n(aMessage)), details);
                 } else {
-                    myLogger.debug(aMarker, updateMessage(aMessage), details);
+                    myLogger.debug(aMarker, eolMode.apply(aMessage), details);
                 }
 
-                clearMarker();
+                clearMarker(eolMode);
             }
         }
     }
@@ -118,22 +230,30 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void debug(final Marker aMarker, final String aMessage, final Object a1stDetail, final Object a2ndDetail) {
         if (isDebugEnabled()) {
+            if (!admit(Level.DEBUG, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.DEBUG, aMarker, aMessage, null, a1stDetail, a2ndDetail)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
-                final String detail1 = a1stDetail.toString();
-                final String detail2 = a2ndDetail.toString();
+                final String detail1 = String.valueOf(a1stDetail);
+                final String detail2 = String.valueOf(a2ndDetail);
 
                 // We can output different types of EOL based on marker
-                addMarker(aMarker);
+                final EolMode eolMode = addMarker(aMarker);
 
                 if (hasI18nKey(aMessage)) {
-                    myLogger.debug(aMarker, updateMessage(getI18n(aMessage)), updateMessage(detail1),
-                            updateMessage(detail2));
+                    myLogger.debug(aMarker, eolMode.apply(getI18n(aMessage)), eolMode.apply(detail1),
+                            eolMode.apply(detail2));
                 } else {
-                    myLogger.debug(aMarker, updateMessage(aMessage), updateMessage(detail1), updateMessage(detail2));
+                    myLogger.debug(aMarker, eolMode.apply(aMessage), eolMode.apply(detail1), eolMode.apply(detail2));
                 }
 
-                clearMarker();
+                clearMarker(eolMode);
             }
         }
     }
@@ -142,24 +262,32 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void debug(final Marker aMarker, final String aMessage, final Throwable aThrowable) {
         if (isDebugEnabled()) {
+            if (!admit(Level.DEBUG, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.DEBUG, aMarker, aMessage, aThrowable)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 // We can output different types of EOL based on marker
-                addMarker(aMarker);
+                final EolMode eolMode = addMarker(aMarker);
 
                 if (hasI18nKey(aMessage)) {
                     if (aThrowable != null) {
-                        myLogger.debug(aMarker, updateMessage(getI18n(aMessage)), aThrowable);
+                        myLogger.debug(aMarker, eolMode.apply(getI18n(aMessage)), aThrowable);
                     } else {
-                        myLogger.debug(aMarker, updateMessage(getI18n(aMessage)));
+                        myLogger.debug(aMarker, eolMode.apply(getI18n(aMessage)));
                     }
                 } else if (aThrowable != null) {
-                    myLogger.debug(aMarker, updateMessage(aMessage), aThrowable);
+                    myLogger.debug(aMarker, eolMode.apply(aMessage), aThrowable);
                 } else {
-                    myLogger.debug(aMarker, updateMessage(aMessage));
+                    myLogger.debug(aMarker, eolMode.apply(aMessage));
                 }
 
-                clearMarker();
+                clearMarker(eolMode);
             }
         }
     }
@@ -167,6 +295,14 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void debug(final String aMessage) {
         if (isDebugEnabled()) {
+            if (!admit(Level.DEBUG, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.DEBUG, null, aMessage, null)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 if (hasI18nKey(aMessage)) {
@@ -181,6 +317,14 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void debug(final String aMessage, final Object aDetail) {
         if (isDebugEnabled()) {
+            if (!admit(Level.DEBUG, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.DEBUG, null, aMessage, null, aDetail)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 if (hasI18nKey(aMessage)) {
@@ -195,6 +339,14 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void debug(final String aMessage, final Object... aDetails) {
         if (isDebugEnabled()) {
+            if (!admit(Level.DEBUG, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.DEBUG, null, aMessage, null, aDetails)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 if (hasI18nKey(aMessage)) {
@@ -209,6 +361,14 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void debug(final String aMessage, final Object a1stDetail, final Object a2ndDetail) {
         if (isDebugEnabled()) {
+            if (!admit(Level.DEBUG, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.DEBUG, null, aMessage, null, a1stDetail, a2ndDetail)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 if (hasI18nKey(aMessage)) {
@@ -224,6 +384,14 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void debug(final String aMessage, final Throwable aThrowable) {
         if (isDebugEnabled()) {
+            if (!admit(Level.DEBUG, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.DEBUG, null, aMessage, aThrowable)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 if (hasI18nKey(aMessage)) {
@@ -241,21 +409,107 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
         }
     }
 
+    /**
+     * Logs a debug message with an argument that's only computed if debug logging is enabled.
+     *
+     * @param aMessage A message or message key
+     * @param aSupplier A supplier of an argument for the message
+     */
+    public void debugLazy(final String aMessage, final Supplier<?> aSupplier) {
+        if (isDebugEnabled()) {
+            debug(aMessage, get(aSupplier));
+        }
+    }
+
+    /**
+     * Logs a debug message with two arguments that are only computed if debug logging is enabled.
+     *
+     * @param aMessage A message or message key
+     * @param a1stSupplier A supplier of the first argument for the message
+     * @param a2ndSupplier A supplier of the second argument for the message
+     */
+    public void debugLazy(final String aMessage, final Supplier<?> a1stSupplier, final Supplier<?> a2ndSupplier) {
+        if (isDebugEnabled()) {
+            debug(aMessage, get(a1stSupplier), get(a2ndSupplier));
+        }
+    }
+
+    /**
+     * Logs a debug message with arguments that are only computed if debug logging is enabled.
+     *
+     * @param aMessage A message or message key
+     * @param aSuppliers Suppliers of arguments for the message
+     */
+    public void debugLazy(final String aMessage, final Supplier<?>... aSuppliers) {
+        if (isDebugEnabled()) {
+            debug(aMessage, get(aSuppliers));
+        }
+    }
+
+    /**
+     * Logs a debug message with a marker and an argument that's only computed if debug logging is enabled.
+     *
+     * @param aMarker A marker for the message
+     * @param aMessage A message or message key
+     * @param aSupplier A supplier of an argument for the message
+     */
+    public void debugLazy(final Marker aMarker, final String aMessage, final Supplier<?> aSupplier) {
+        if (isDebugEnabled()) {
+            debug(aMarker, aMessage, get(aSupplier));
+        }
+    }
+
+    /**
+     * Logs a debug message with a marker and two arguments that are only computed if debug logging is enabled.
+     *
+     * @param aMarker A marker for the message
+     * @param aMessage A message or message key
+     * @param a1stSupplier A supplier of the first argument for the message
+     * @param a2ndSupplier A supplier of the second argument for the message
+     */
+    public void debugLazy(final Marker aMarker, final String aMessage, final Supplier<?> a1stSupplier,
+            final Supplier<?> a2ndSupplier) {
+        if (isDebugEnabled()) {
+            debug(aMarker, aMessage, get(a1stSupplier), get(a2ndSupplier));
+        }
+    }
+
+    /**
+     * Logs a debug message with a marker and arguments that are only computed if debug logging is enabled.
+     *
+     * @param aMarker A marker for the message
+     * @param aMessage A message or message key
+     * @param aSuppliers Suppliers of arguments for the message
+     */
+    public void debugLazy(final Marker aMarker, final String aMessage, final Supplier<?>... aSuppliers) {
+        if (isDebugEnabled()) {
+            debug(aMarker, aMessage, get(aSuppliers));
+        }
+    }
+
     @Override
     public void error(final Marker aMarker, final String aMessage) {
         if (isErrorEnabled()) {
+            if (!admit(Level.ERROR, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.ERROR, aMarker, aMessage, null)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 // We can output different types of EOL based on marker
-                addMarker(aMarker);
+                final EolMode eolMode = addMarker(aMarker);
 
                 if (hasI18nKey(aMessage)) {
-                    myLogger.error(aMarker, updateMessage(getI18n(aMessage)));
+                    myLogger.error(aMarker, eolMode.apply(getI18n(aMessage)));
                 } else {
-                    myLogger.error(aMarker, updateMessage(aMessage));
+                    myLogger.error(aMarker, eolMode.apply(aMessage));
                 }
 
-                clearMarker();
+                clearMarker(eolMode);
             }
         }
     }
@@ -263,20 +517,28 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void error(final Marker aMarker, final String aMessage, final Object aDetail) {
         if (isErrorEnabled()) {
+            if (!admit(Level.ERROR, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.ERROR, aMarker, aMessage, null, aDetail)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
-                final String detail = aDetail.toString();
+                final String detail = String.valueOf(aDetail);
 
                 // We can output different types of EOL based on marker
-                addMarker(aMarker);
+                final EolMode eolMode = addMarker(aMarker);
 
                 if (hasI18nKey(aMessage)) {
-                    myLogger.error(aMarker, updateMessage(getI18n(aMessage)), updateMessage(detail));
+                    myLogger.error(aMarker, eolMode.apply(getI18n(aMessage)), eolMode.apply(detail));
                 } else {
-                    myLogger.error(aMarker, updateMessage(aMessage), updateMessage(detail));
+                    myLogger.error(aMarker, eolMode.apply(aMessage), eolMode.apply(detail));
                 }
 
-                clearMarker();
+                clearMarker(eolMode);
             }
         }
     }
@@ -284,24 +546,32 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void error(final Marker aMarker, final String aMessage, final Object... aDetails) {
         if (isErrorEnabled()) {
+            if (!admit(Level.ERROR, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.ERROR, aMarker, aMessage, null, aDetails)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 final Object[] details = new String[aDetails.length];
 
                 // We can output different types of EOL based on marker
-                addMarker(aMarker);
+                final EolMode eolMode = addMarker(aMarker);
 
                 for (int index = 0; index < details.length; index++) {
-                    details[index] = updateMessage(aDetails[index].toString());
+                    details[index] = eolMode.apply(String.valueOf(aDetails[index]));
                 }
 
                 if (hasI18nKey(aMessage)) {
-                    myLogger.error(aMarker, updateMessage(getI18n(aMessage)), details);
+                    myLogger.error(aMarker, eolMode.apply(getI18n(aMessage)), details);
                 } else {
-                    myLogger.error(aMarker, updateMessage(aMessage), details);
+                    myLogger.error(aMarker, eolMode.apply(aMessage), details);
                 }
 
-                clearMarker();
+                clearMarker(eolMode);
             }
         }
     }
@@ -309,22 +579,30 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void error(final Marker aMarker, final String aMessage, final Object a1stDetail, final Object a2ndDetail) {
         if (isErrorEnabled()) {
+            if (!admit(Level.ERROR, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.ERROR, aMarker, aMessage, null, a1stDetail, a2ndDetail)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
-                final String detail1 = a1stDetail.toString();
-                final String detail2 = a2ndDetail.toString();
+                final String detail1 = String.valueOf(a1stDetail);
+                final String detail2 = String.valueOf(a2ndDetail);
 
                 // We can output different types of EOL based on marker
-                addMarker(aMarker);
+                final EolMode eolMode = addMarker(aMarker);
 
                 if (hasI18nKey(aMessage)) {
-                    myLogger.error(aMarker, updateMessage(getI18n(aMessage)), updateMessage(detail1),
-                            updateMessage(detail2));
+                    myLogger.error(aMarker, eolMode.apply(getI18n(aMessage)), eolMode.apply(detail1),
+                            eolMode.apply(detail2));
                 } else {
-                    myLogger.error(aMarker, updateMessage(aMessage), updateMessage(detail1), updateMessage(detail2));
+                    myLogger.error(aMarker, eolMode.apply(aMessage), eolMode.apply(detail1), eolMode.apply(detail2));
                 }
 
-                clearMarker();
+                clearMarker(eolMode);
             }
         }
     }
@@ -333,24 +611,32 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void error(final Marker aMarker, final String aMessage, final Throwable aThrowable) {
         if (isErrorEnabled()) {
+            if (!admit(Level.ERROR, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.ERROR, aMarker, aMessage, aThrowable)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 // We can output different types of EOL based on marker
-                addMarker(aMarker);
+                final EolMode eolMode = addMarker(aMarker);
 
                 if (hasI18nKey(aMessage)) {
                     if (aThrowable != null) {
-                        myLogger.error(aMarker, updateMessage(getI18n(aMessage)), aThrowable);
+                        myLogger.error(aMarker, eolMode.apply(getI18n(aMessage)), aThrowable);
                     } else {
-                        myLogger.error(aMarker, updateMessage(getI18n(aMessage)));
+                        myLogger.error(aMarker, eolMode.apply(getI18n(aMessage)));
                     }
                 } else if (aThrowable != null) {
-                    myLogger.error(aMarker, updateMessage(aMessage), aThrowable);
+                    myLogger.error(aMarker, eolMode.apply(aMessage), aThrowable);
                 } else {
-                    myLogger.error(aMarker, updateMessage(aMessage));
+                    myLogger.error(aMarker, eolMode.apply(aMessage));
                 }
 
-                clearMarker();
+                clearMarker(eolMode);
             }
         }
     }
@@ -358,6 +644,14 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void error(final String aMessage) {
         if (isErrorEnabled()) {
+            if (!admit(Level.ERROR, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.ERROR, null, aMessage, null)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 if (hasI18nKey(aMessage)) {
@@ -372,6 +666,14 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void error(final String aMessage, final Object aDetail) {
         if (isErrorEnabled()) {
+            if (!admit(Level.ERROR, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.ERROR, null, aMessage, null, aDetail)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 if (hasI18nKey(aMessage)) {
@@ -386,6 +688,14 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void error(final String aMessage, final Object... aDetails) {
         if (isErrorEnabled()) {
+            if (!admit(Level.ERROR, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.ERROR, null, aMessage, null, aDetails)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 if (hasI18nKey(aMessage)) {
@@ -400,6 +710,14 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void error(final String aMessage, final Object a1stDetail, final Object a2ndDetail) {
         if (isErrorEnabled()) {
+            if (!admit(Level.ERROR, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.ERROR, null, aMessage, null, a1stDetail, a2ndDetail)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 if (hasI18nKey(aMessage)) {
@@ -415,6 +733,14 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void error(final String aMessage, final Throwable aThrowable) {
         if (isErrorEnabled()) {
+            if (!admit(Level.ERROR, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.ERROR, null, aMessage, aThrowable)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 if (hasI18nKey(aMessage)) {
@@ -441,6 +767,14 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @SuppressWarnings({ PMD.AVOID_DEEPLY_NESTED_IF_STMTS })
     public void error(final Throwable aThrowable, final String aMessage) {
         if (isErrorEnabled()) {
+            if (!admit(Level.ERROR, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.ERROR, null, aMessage, aThrowable)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 if (hasI18nKey(aMessage)) {
@@ -468,6 +802,14 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @SuppressWarnings({ PMD.AVOID_DEEPLY_NESTED_IF_STMTS })
     public void error(final Throwable aThrowable, final String aMessage, final Object... aVarargs) {
         if (isErrorEnabled()) {
+            if (!admit(Level.ERROR, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.ERROR, null, aMessage, aThrowable, aVarargs)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 if (hasI18nKey(aMessage)) {
@@ -492,110 +834,333 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     }
 
     /**
-     * Gets the internal logger that this logger decorates. This allows casting it to the actual logging implementation
-     * so that native methods, etc., can be called.
+     * Logs a error message with an argument that's only computed if error logging is enabled.
      *
-     * @return An underlying logger
+     * @param aMessage A message or message key
+     * @param aSupplier A supplier of an argument for the message
      */
-    public org.slf4j.Logger getLoggerImpl() {
-        return myLogger;
+    public void errorLazy(final String aMessage, final Supplier<?> aSupplier) {
+        if (isErrorEnabled()) {
+            error(aMessage, get(aSupplier));
+        }
     }
 
     /**
-     * Gets a message from the logger's backing resource bundle if what's passed in is a message key; if it's not then
-     * what's passed in is, itself, returned. If what's passed in is the same thing as what's returned, any additional
-     * details passed in are ignored.
+     * Logs a error message with two arguments that are only computed if error logging is enabled.
      *
-     * @param aMarker A marker than can affect logging behavior
-     * @param aMessage A message to check against the backing resource bundle
-     * @param aDetails An array of additional details
-     * @return A message value (potentially from the backing resource bundle)
+     * @param aMessage A message or message key
+     * @param a1stSupplier A supplier of the first argument for the message
+     * @param a2ndSupplier A supplier of the second argument for the message
      */
-    public String getMessage(final Marker aMarker, final String aMessage, final Object... aDetails) {
-        final String[] details = new String[aDetails.length];
-        final String message;
-
-        addMarker(aMarker);
-
-        for (int index = 0; index < details.length; index++) {
-            details[index] = updateMessage(aDetails[index].toString());
+    public void errorLazy(final String aMessage, final Supplier<?> a1stSupplier, final Supplier<?> a2ndSupplier) {
+        if (isErrorEnabled()) {
+            error(aMessage, get(a1stSupplier), get(a2ndSupplier));
         }
+    }
 
-        if (hasI18nKey(aMessage)) {
-            message = updateMessage(getI18n(aMessage, details));
-        } else if (details.length == 0) {
-            message = updateMessage(aMessage);
-        } else {
-            message = updateMessage(StringUtils.format(aMessage, details));
+    /**
+     * Logs a error message with arguments that are only computed if error logging is enabled.
+     *
+     * @param aMessage A message or message key
+     * @param aSuppliers Suppliers of arguments for the message
+     */
+    public void errorLazy(final String aMessage, final Supplier<?>... aSuppliers) {
+        if (isErrorEnabled()) {
+            error(aMessage, get(aSuppliers));
         }
-
-        clearMarker();
-
-        return message;
     }
 
     /**
-     * Gets a message from the logger's backing resource bundle if what's passed in is a message key; if it's not then
-     * what's passed in is, itself, returned. If what's passed in is the same thing as what's returned, any additional
-     * details passed in are ignored.
+     * Logs a error message with a marker and an argument that's only computed if error logging is enabled.
      *
-     * @param aMessage A message to check against the backing resource bundle
-     * @param aDetails An array of additional details
-     * @return A message value (potentially from the backing resource bundle)
+     * @param aMarker A marker for the message
+     * @param aMessage A message or message key
+     * @param aSupplier A supplier of an argument for the message
      */
-    public String getMessage(final String aMessage, final Object... aDetails) {
-        if (hasI18nKey(aMessage)) {
-            return getI18n(aMessage, aDetails);
+    public void errorLazy(final Marker aMarker, final String aMessage, final Supplier<?> aSupplier) {
+        if (isErrorEnabled()) {
+            error(aMarker, aMessage, get(aSupplier));
         }
+    }
 
-        if (aDetails.length == 0) {
-            return aMessage;
+    /**
+     * Logs a error message with a marker and two arguments that are only computed if error logging is enabled.
+     *
+     * @param aMarker A marker for the message
+     * @param aMessage A message or message key
+     * @param a1stSupplier A supplier of the first argument for the message
+     * @param a2ndSupplier A supplier of the second argument for the message
+     */
+    public void errorLazy(final Marker aMarker, final String aMessage, final Supplier<?> a1stSupplier,
+            final Supplier<?> a2ndSupplier) {
+        if (isErrorEnabled()) {
+            error(aMarker, aMessage, get(a1stSupplier), get(a2ndSupplier));
         }
-
-        return StringUtils.format(aMessage, aDetails);
     }
 
-    @Override
-    public String getName() {
-        return myLogger.getName();
+    /**
+     * Logs a error message with a marker and arguments that are only computed if error logging is enabled.
+     *
+     * @param aMarker A marker for the message
+     * @param aMessage A message or message key
+     * @param aSuppliers Suppliers of arguments for the message
+     */
+    public void errorLazy(final Marker aMarker, final String aMessage, final Supplier<?>... aSuppliers) {
+        if (isErrorEnabled()) {
+            error(aMarker, aMessage, get(aSuppliers));
+        }
     }
 
-    @Override
-    public void info(final Marker aMarker, final String aMessage) {
-        if (isInfoEnabled()) {
-            try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
-            MDCCloseable closeable = setLineNumber()) {
-                // We can output different types of EOL based on marker
-                addMarker(aMarker);
+    /**
+     * Starts building a logging event at the supplied level. If the level isn't enabled, a shared builder that ignores
+     * its arguments is returned, so nothing is allocated or computed.
+     *
+     * @param aLevel The level of the event
+     * @return A builder for the logging event
+     */
+    public LogEventBuilder event(final Level aLevel) {
+        return isEnabled(aLevel) ? new LogEventBuilder(this, aLevel) : LogEventBuilder.DISABLED;
+    }
 
-                if (hasI18nKey(aMessage)) {
-                    myLogger.info(aMarker, updateMessage(getI18n(aMessage)));
-                } else {
-                    myLogger.info(aMarker, updateMessage(aMessage));
-                }
+    /**
+     * Gets the dispatcher that writes this logger's events on a background thread.
+     *
+     * @return The logger's asynchronous dispatcher, or null if the logger writes its events on the caller's thread
+     */
+    public AsyncLogDispatcher getDispatcher() {
+        return myDispatcher;
+    }
 
-                clearMarker();
-            }
-        }
+    /**
+     * Sets a dispatcher that writes this logger's events on a background thread. Message lookup, formatting, and the
+     * call to the wrapped SLF4J logger then happen on the dispatcher's thread. Supplying null, or closing the
+     * dispatcher, returns the logger to writing its events on the caller's thread. The dispatcher is used by everyone
+     * who gets this logger from the {@link LoggerFactory}, not just the caller that sets it.
+     *
+     * @param aDispatcher An asynchronous log dispatcher, or null
+     * @return This logger
+     */
+    public synchronized Logger setDispatcher(final AsyncLogDispatcher aDispatcher) {
+        myDispatcher = aDispatcher;
+        myRouted = aDispatcher != null || myStructured;
+        return this;
+    }
+
+    /**
+     * Returns whether the logger writes structured events.
+     *
+     * @return True if the logger writes structured events; else, false
+     */
+    public boolean isStructuredEnabled() {
+        return myStructured;
+    }
+
+    /**
+     * Sets whether the logger writes structured events. A structured event is written through SLF4J's fluent API: its
+     * I18n message key is added as the {@link #MESSAGE_KEY} key/value pair, its arguments are added as the
+     * {@link #MESSAGE_ARGS} key/value pair (as well as message arguments), and its marker is added as a marker. The
+     * event's message is the unformatted template, so the human readable string is only built if an appender asks
+     * for it. Since the {@link LoggerFactory} hands out one logger per name and bundle, this changes the output of
+     * every class that logs through it.
+     *
+     * @param aStructuredEnabled True if the logger should write structured events; else, false
+     * @return This logger
+     */
+    public synchronized Logger setStructuredEnabled(final boolean aStructuredEnabled) {
+        myStructured = aStructuredEnabled;
+        myRouted = aStructuredEnabled || myDispatcher != null;
+        return this;
+    }
+
+    /**
+     * Gets the limiter that suppresses floods of identical messages.
+     *
+     * @return The logger's rate limiter, or null if the logger doesn't limit its messages
+     */
+    public LogRateLimiter getRateLimiter() {
+        return myRateLimiter;
+    }
+
+    /**
+     * Sets a limiter that suppresses floods of identical messages. Messages are grouped by their message key (or by
+     * their template, if they don't use a key) regardless of their arguments. Supplying null turns rate limiting off.
+     * Loggers from the {@link LoggerFactory} are shared, so the limiter's budget is shared by all of the logger's
+     * callers.
+     *
+     * @param aRateLimiter A log rate limiter, or null
+     * @return This logger
+     */
+    public Logger setRateLimiter(final LogRateLimiter aRateLimiter) {
+        myRateLimiter = aRateLimiter;
+        return this;
+    }
+
+    /**
+     * Gets the counts of the events this logger has written.
+     *
+     * @return The logger's metrics, or null if metrics aren't enabled
+     */
+    public LoggerMetrics getMetrics() {
+        return myMetrics;
+    }
+
+    /**
+     * Sets whether the logger counts the events it writes, per level and per I18n message key. Turning metrics on
+     * when they're already on keeps the existing counts; turning them off discards them. The counts cover every caller
+     * that got this logger from the {@link LoggerFactory}.
+     *
+     * @param aMetricsEnabled True if events should be counted; else, false
+     * @return This logger
+     */
+    @SuppressWarnings(PMD.NULL_ASSIGNMENT)
+    public synchronized Logger setMetricsEnabled(final boolean aMetricsEnabled) {
+        if (!aMetricsEnabled) {
+            myMetrics = null;
+        } else if (myMetrics == null) {
+            myMetrics = new LoggerMetrics();
+        }
+
+        return this;
+    }
+
+    /**
+     * Copies the supplied logger's settings to this logger, which is replacing it and hasn't been shared yet. The
+     * metrics aren't copied but shared, so their counts carry on.
+     *
+     * @param aLogger The logger being replaced
+     */
+    void copySettings(final Logger aLogger) {
+        synchronized (aLogger) {
+            myLineNumbersEnabled = aLogger.myLineNumbersEnabled;
+            myDispatcher = aLogger.myDispatcher;
+            myMetrics = aLogger.myMetrics;
+            myRateLimiter = aLogger.myRateLimiter;
+            myStructured = aLogger.myStructured;
+            myRouted = aLogger.myRouted;
+        }
+    }
+
+    /**
+     * Gets the internal logger that this logger decorates. This allows casting it to the actual logging implementation
+     * so that native methods, etc., can be called.
+     *
+     * @return An underlying logger
+     */
+    public org.slf4j.Logger getLoggerImpl() {
+        return myLogger;
+    }
+
+    /**
+     * Gets a message from the logger's backing resource bundle if what's passed in is a message key; if it's not then
+     * what's passed in is, itself, returned. If what's passed in is the same thing as what's returned, any additional
+     * details passed in are ignored.
+     *
+     * @param aMarker A marker than can affect logging behavior
+     * @param aMessage A message to check against the backing resource bundle
+     * @param aDetails An array of additional details
+     * @return A message value (potentially from the backing resource bundle)
+     */
+    public String getMessage(final Marker aMarker, final String aMessage, final Object... aDetails) {
+        final String[] details = new String[aDetails.length];
+        final String message;
+
+        final EolMode eolMode = addMarker(aMarker);
+
+        for (int index = 0; index < details.length; index++) {
+            details[index] = eolMode.apply(String.valueOf(aDetails[index]));
+        }
+
+        if (hasI18nKey(aMessage)) {
+            message = eolMode.apply(getI18n(aMessage, details));
+        } else if (details.length == 0) {
+            message = eolMode.apply(aMessage);
+        } else {
+            message = eolMode.apply(StringUtils.format(aMessage, details));
+        }
+
+        clearMarker(eolMode);
+
+        return message;
+    }
+
+    /**
+     * Gets a message from the logger's backing resource bundle if what's passed in is a message key; if it's not then
+     * what's passed in is, itself, returned. If what's passed in is the same thing as what's returned, any additional
+     * details passed in are ignored.
+     *
+     * @param aMessage A message to check against the backing resource bundle
+     * @param aDetails An array of additional details
+     * @return A message value (potentially from the backing resource bundle)
+     */
+    public String getMessage(final String aMessage, final Object... aDetails) {
+        if (hasI18nKey(aMessage)) {
+            return getI18n(aMessage, aDetails);
+        }
+
+        if (aDetails.length == 0) {
+            return aMessage;
+        }
+
+        return StringUtils.format(aMessage, aDetails);
+    }
+
+    @Override
+    public String getName() {
+        return myLogger.getName();
+    }
+
+    @Override
+    public void info(final Marker aMarker, final String aMessage) {
+        if (isInfoEnabled()) {
+            if (!admit(Level.INFO, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.INFO, aMarker, aMessage, null)) {
+                return;
+            }
+
+            try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
+            MDCCloseable closeable = setLineNumber()) {
+                // We can output different types of EOL based on marker
+                final EolMode eolMode = addMarker(aMarker);
+
+                if (hasI18nKey(aMessage)) {
+                    myLogger.info(aMarker, eolMode.apply(getI18n(aMessage)));
+                } else {
+                    myLogger.info(aMarker, eolMode.apply(aMessage));
+                }
+
+                clearMarker(eolMode);
+            }
+        }
     }
 
     @Override
     public void info(final Marker aMarker, final String aMessage, final Object aDetail) {
         if (isInfoEnabled()) {
+            if (!admit(Level.INFO, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.INFO, aMarker, aMessage, null, aDetail)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
-                final String detail = aDetail.toString();
+                final String detail = String.valueOf(aDetail);
 
                 // We can output different types of EOL based on marker
-                addMarker(aMarker);
+                final EolMode eolMode = addMarker(aMarker);
 
                 if (hasI18nKey(aMessage)) {
-                    myLogger.info(aMarker, updateMessage(getI18n(aMessage)), updateMessage(detail));
+                    myLogger.info(aMarker, eolMode.apply(getI18n(aMessage)), eolMode.apply(detail));
                 } else {
-                    myLogger.info(aMarker, updateMessage(aMessage), updateMessage(detail));
+                    myLogger.info(aMarker, eolMode.apply(aMessage), eolMode.apply(detail));
                 }
 
-                clearMarker();
+                clearMarker(eolMode);
             }
         }
     }
@@ -603,24 +1168,32 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void info(final Marker aMarker, final String aMessage, final Object... aDetails) {
         if (isInfoEnabled()) {
+            if (!admit(Level.INFO, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.INFO, aMarker, aMessage, null, aDetails)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 final Object[] details = new String[aDetails.length];
 
                 // We can output different types of EOL based on marker
-                addMarker(aMarker);
+                final EolMode eolMode = addMarker(aMarker);
 
                 for (int index = 0; index < details.length; index++) {
-                    details[index] = updateMessage(aDetails[index].toString());
+                    details[index] = eolMode.apply(String.valueOf(aDetails[index]));
                 }
 
                 if (hasI18nKey(aMessage)) {
-                    myLogger.info(aMarker, updateMessage(getI18n(aMessage)), details);
+                    myLogger.info(aMarker, eolMode.apply(getI18n(aMessage)), details);
                 } else {
-                    myLogger.info(aMarker, updateMessage(aMessage), details);
+                    myLogger.info(aMarker, eolMode.apply(aMessage), details);
                 }
 
-                clearMarker();
+                clearMarker(eolMode);
             }
         }
     }
@@ -628,22 +1201,30 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void info(final Marker aMarker, final String aMessage, final Object a1stDetail, final Object a2ndDetail) {
         if (isInfoEnabled()) {
+            if (!admit(Level.INFO, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.INFO, aMarker, aMessage, null, a1stDetail, a2ndDetail)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
-                final String detail1 = a1stDetail.toString();
-                final String detail2 = a2ndDetail.toString();
+                final String detail1 = String.valueOf(a1stDetail);
+                final String detail2 = String.valueOf(a2ndDetail);
 
                 // We can output different types of EOL based on marker
-                addMarker(aMarker);
+                final EolMode eolMode = addMarker(aMarker);
 
                 if (hasI18nKey(aMessage)) {
-                    myLogger.info(aMarker, updateMessage(getI18n(aMessage)), updateMessage(detail1),
-                            updateMessage(detail2));
+                    myLogger.info(aMarker, eolMode.apply(getI18n(aMessage)), eolMode.apply(detail1),
+                            eolMode.apply(detail2));
                 } else {
-                    myLogger.info(aMarker, updateMessage(aMessage), updateMessage(detail1), updateMessage(detail2));
+                    myLogger.info(aMarker, eolMode.apply(aMessage), eolMode.apply(detail1), eolMode.apply(detail2));
                 }
 
-                clearMarker();
+                clearMarker(eolMode);
             }
         }
     }
@@ -652,24 +1233,32 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void info(final Marker aMarker, final String aMessage, final Throwable aThrowable) {
         if (isInfoEnabled()) {
+            if (!admit(Level.INFO, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.INFO, aMarker, aMessage, aThrowable)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 // We can output different types of EOL based on marker
-                addMarker(aMarker);
+                final EolMode eolMode = addMarker(aMarker);
 
                 if (hasI18nKey(aMessage)) {
                     if (aThrowable != null) {
-                        myLogger.info(aMarker, updateMessage(getI18n(aMessage)), aThrowable);
+                        myLogger.info(aMarker, eolMode.apply(getI18n(aMessage)), aThrowable);
                     } else {
-                        myLogger.info(aMarker, updateMessage(getI18n(aMessage)));
+                        myLogger.info(aMarker, eolMode.apply(getI18n(aMessage)));
                     }
                 } else if (aThrowable != null) {
-                    myLogger.info(aMarker, updateMessage(aMessage), aThrowable);
+                    myLogger.info(aMarker, eolMode.apply(aMessage), aThrowable);
                 } else {
-                    myLogger.info(aMarker, updateMessage(aMessage));
+                    myLogger.info(aMarker, eolMode.apply(aMessage));
                 }
 
-                clearMarker();
+                clearMarker(eolMode);
             }
         }
     }
@@ -677,6 +1266,14 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void info(final String aMessage) {
         if (isInfoEnabled()) {
+            if (!admit(Level.INFO, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.INFO, null, aMessage, null)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 if (hasI18nKey(aMessage)) {
@@ -691,6 +1288,14 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void info(final String aMessage, final Object aDetail) {
         if (isInfoEnabled()) {
+            if (!admit(Level.INFO, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.INFO, null, aMessage, null, aDetail)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 if (hasI18nKey(aMessage)) {
@@ -705,6 +1310,14 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void info(final String aMessage, final Object... aDetails) {
         if (isInfoEnabled()) {
+            if (!admit(Level.INFO, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.INFO, null, aMessage, null, aDetails)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 if (hasI18nKey(aMessage)) {
@@ -719,6 +1332,14 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void info(final String aMessage, final Object a1stDetail, final Object a2ndDetail) {
         if (isInfoEnabled()) {
+            if (!admit(Level.INFO, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.INFO, null, aMessage, null, a1stDetail, a2ndDetail)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 if (hasI18nKey(aMessage)) {
@@ -734,6 +1355,14 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void info(final String aMessage, final Throwable aThrowable) {
         if (isInfoEnabled()) {
+            if (!admit(Level.INFO, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.INFO, null, aMessage, aThrowable)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 if (hasI18nKey(aMessage)) {
@@ -751,6 +1380,106 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
         }
     }
 
+    /**
+     * Logs a info message with an argument that's only computed if info logging is enabled.
+     *
+     * @param aMessage A message or message key
+     * @param aSupplier A supplier of an argument for the message
+     */
+    public void infoLazy(final String aMessage, final Supplier<?> aSupplier) {
+        if (isInfoEnabled()) {
+            info(aMessage, get(aSupplier));
+        }
+    }
+
+    /**
+     * Logs a info message with two arguments that are only computed if info logging is enabled.
+     *
+     * @param aMessage A message or message key
+     * @param a1stSupplier A supplier of the first argument for the message
+     * @param a2ndSupplier A supplier of the second argument for the message
+     */
+    public void infoLazy(final String aMessage, final Supplier<?> a1stSupplier, final Supplier<?> a2ndSupplier) {
+        if (isInfoEnabled()) {
+            info(aMessage, get(a1stSupplier), get(a2ndSupplier));
+        }
+    }
+
+    /**
+     * Logs a info message with arguments that are only computed if info logging is enabled.
+     *
+     * @param aMessage A message or message key
+     * @param aSuppliers Suppliers of arguments for the message
+     */
+    public void infoLazy(final String aMessage, final Supplier<?>... aSuppliers) {
+        if (isInfoEnabled()) {
+            info(aMessage, get(aSuppliers));
+        }
+    }
+
+    /**
+     * Logs a info message with a marker and an argument that's only computed if info logging is enabled.
+     *
+     * @param aMarker A marker for the message
+     * @param aMessage A message or message key
+     * @param aSupplier A supplier of an argument for the message
+     */
+    public void infoLazy(final Marker aMarker, final String aMessage, final Supplier<?> aSupplier) {
+        if (isInfoEnabled()) {
+            info(aMarker, aMessage, get(aSupplier));
+        }
+    }
+
+    /**
+     * Logs a info message with a marker and two arguments that are only computed if info logging is enabled.
+     *
+     * @param aMarker A marker for the message
+     * @param aMessage A message or message key
+     * @param a1stSupplier A supplier of the first argument for the message
+     * @param a2ndSupplier A supplier of the second argument for the message
+     */
+    public void infoLazy(final Marker aMarker, final String aMessage, final Supplier<?> a1stSupplier,
+            final Supplier<?> a2ndSupplier) {
+        if (isInfoEnabled()) {
+            info(aMarker, aMessage, get(a1stSupplier), get(a2ndSupplier));
+        }
+    }
+
+    /**
+     * Logs a info message with a marker and arguments that are only computed if info logging is enabled.
+     *
+     * @param aMarker A marker for the message
+     * @param aMessage A message or message key
+     * @param aSuppliers Suppliers of arguments for the message
+     */
+    public void infoLazy(final Marker aMarker, final String aMessage, final Supplier<?>... aSuppliers) {
+        if (isInfoEnabled()) {
+            info(aMarker, aMessage, get(aSuppliers));
+        }
+    }
+
+    /**
+     * Returns whether the logger captures the line number of the logging call when debugging is enabled.
+     *
+     * @return True if line numbers are captured; else, false
+     */
+    public boolean isLineNumbersEnabled() {
+        return myLineNumbersEnabled;
+    }
+
+    /**
+     * Sets whether the logger captures the line number of the logging call when debugging is enabled. Capturing the
+     * line number requires walking the stack so it can be turned off in performance sensitive code. Loggers from the
+     * {@link LoggerFactory} are shared, so the setting applies to all users of the same logger.
+     *
+     * @param aLineNumbersEnabled True if line numbers should be captured; else, false
+     * @return This logger
+     */
+    public Logger setLineNumbersEnabled(final boolean aLineNumbersEnabled) {
+        myLineNumbersEnabled = aLineNumbersEnabled;
+        return this;
+    }
+
     @Override
     public boolean isDebugEnabled() {
         return myLogger.isDebugEnabled();
@@ -804,18 +1533,26 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void trace(final Marker aMarker, final String aMessage) {
         if (isTraceEnabled()) {
+            if (!admit(Level.TRACE, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.TRACE, aMarker, aMessage, null)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 // We can output different types of EOL based on marker
-                addMarker(aMarker);
+                final EolMode eolMode = addMarker(aMarker);
 
                 if (hasI18nKey(aMessage)) {
-                    myLogger.trace(aMarker, updateMessage(getI18n(aMessage)));
+                    myLogger.trace(aMarker, eolMode.apply(getI18n(aMessage)));
                 } else {
-                    myLogger.trace(aMarker, updateMessage(aMessage));
+                    myLogger.trace(aMarker, eolMode.apply(aMessage));
                 }
 
-                clearMarker();
+                clearMarker(eolMode);
             }
         }
     }
@@ -823,20 +1560,28 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void trace(final Marker aMarker, final String aMessage, final Object aDetail) {
         if (isTraceEnabled()) {
+            if (!admit(Level.TRACE, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.TRACE, aMarker, aMessage, null, aDetail)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
-                final String detail = aDetail.toString();
+                final String detail = String.valueOf(aDetail);
 
                 // We can output different types of EOL based on marker
-                addMarker(aMarker);
+                final EolMode eolMode = addMarker(aMarker);
 
                 if (hasI18nKey(aMessage)) {
-                    myLogger.trace(aMarker, updateMessage(getI18n(aMessage)), updateMessage(detail));
+                    myLogger.trace(aMarker, eolMode.apply(getI18n(aMessage)), eolMode.apply(detail));
                 } else {
-                    myLogger.trace(aMarker, updateMessage(aMessage), updateMessage(detail));
+                    myLogger.trace(aMarker, eolMode.apply(aMessage), eolMode.apply(detail));
                 }
 
-                clearMarker();
+                clearMarker(eolMode);
             }
         }
     }
@@ -844,24 +1589,32 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void trace(final Marker aMarker, final String aMessage, final Object... aDetails) {
         if (isTraceEnabled()) {
+            if (!admit(Level.TRACE, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.TRACE, aMarker, aMessage, null, aDetails)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 final Object[] details = new String[aDetails.length];
 
                 // We can output different types of EOL based on marker
-                addMarker(aMarker);
+                final EolMode eolMode = addMarker(aMarker);
 
                 for (int index = 0; index < details.length; index++) {
-                    details[index] = updateMessage(aDetails[index].toString());
+                    details[index] = eolMode.apply(String.valueOf(aDetails[index]));
                 }
 
                 if (hasI18nKey(aMessage)) {
-                    myLogger.trace(aMarker, updateMessage(getI18n(aMessage)), details);
+                    myLogger.trace(aMarker, eolMode.apply(getI18n(aMessage)), details);
                 } else {
-                    myLogger.trace(aMarker, updateMessage(aMessage), details);
+                    myLogger.trace(aMarker, eolMode.apply(aMessage), details);
                 }
 
-                clearMarker();
+                clearMarker(eolMode);
             }
         }
     }
@@ -869,22 +1622,30 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void trace(final Marker aMarker, final String aMessage, final Object a1stDetail, final Object a2ndDetail) {
         if (isTraceEnabled()) {
+            if (!admit(Level.TRACE, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.TRACE, aMarker, aMessage, null, a1stDetail, a2ndDetail)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
-                final String detail1 = a1stDetail.toString();
-                final String detail2 = a2ndDetail.toString();
+                final String detail1 = String.valueOf(a1stDetail);
+                final String detail2 = String.valueOf(a2ndDetail);
 
                 // We can output different types of EOL based on marker
-                addMarker(aMarker);
+                final EolMode eolMode = addMarker(aMarker);
 
                 if (hasI18nKey(aMessage)) {
-                    myLogger.trace(aMarker, updateMessage(getI18n(aMessage)), updateMessage(detail1),
-                            updateMessage(detail2));
+                    myLogger.trace(aMarker, eolMode.apply(getI18n(aMessage)), eolMode.apply(detail1),
+                            eolMode.apply(detail2));
                 } else {
-                    myLogger.trace(aMarker, updateMessage(aMessage), updateMessage(detail1), updateMessage(detail2));
+                    myLogger.trace(aMarker, eolMode.apply(aMessage), eolMode.apply(detail1), eolMode.apply(detail2));
                 }
 
-                clearMarker();
+                clearMarker(eolMode);
             }
         }
     }
@@ -893,24 +1654,32 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void trace(final Marker aMarker, final String aMessage, final Throwable aThrowable) {
         if (isTraceEnabled()) {
+            if (!admit(Level.TRACE, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.TRACE, aMarker, aMessage, aThrowable)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 // We can output different types of EOL based on marker
-                addMarker(aMarker);
+                final EolMode eolMode = addMarker(aMarker);
 
                 if (hasI18nKey(aMessage)) {
                     if (aThrowable != null) {
-                        myLogger.trace(aMarker, updateMessage(getI18n(aMessage)), aThrowable);
+                        myLogger.trace(aMarker, eolMode.apply(getI18n(aMessage)), aThrowable);
                     } else {
-                        myLogger.trace(aMarker, updateMessage(getI18n(aMessage)));
+                        myLogger.trace(aMarker, eolMode.apply(getI18n(aMessage)));
                     }
                 } else if (aThrowable != null) {
-                    myLogger.trace(aMarker, updateMessage(aMessage), aThrowable);
+                    myLogger.trace(aMarker, eolMode.apply(aMessage), aThrowable);
                 } else {
-                    myLogger.trace(aMarker, updateMessage(aMessage));
+                    myLogger.trace(aMarker, eolMode.apply(aMessage));
                 }
 
-                clearMarker();
+                clearMarker(eolMode);
             }
         }
     }
@@ -918,6 +1687,14 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void trace(final String aMessage) {
         if (isTraceEnabled()) {
+            if (!admit(Level.TRACE, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.TRACE, null, aMessage, null)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 if (hasI18nKey(aMessage)) {
@@ -932,6 +1709,14 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void trace(final String aMessage, final Object aDetail) {
         if (isTraceEnabled()) {
+            if (!admit(Level.TRACE, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.TRACE, null, aMessage, null, aDetail)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 if (hasI18nKey(aMessage)) {
@@ -946,6 +1731,14 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void trace(final String aMessage, final Object... aDetails) {
         if (isTraceEnabled()) {
+            if (!admit(Level.TRACE, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.TRACE, null, aMessage, null, aDetails)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 if (hasI18nKey(aMessage)) {
@@ -960,6 +1753,14 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void trace(final String aMessage, final Object a1stDetail, final Object a2ndDetail) {
         if (isTraceEnabled()) {
+            if (!admit(Level.TRACE, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.TRACE, null, aMessage, null, a1stDetail, a2ndDetail)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 if (hasI18nKey(aMessage)) {
@@ -975,6 +1776,14 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void trace(final String aMessage, final Throwable aThrowable) {
         if (isTraceEnabled()) {
+            if (!admit(Level.TRACE, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.TRACE, null, aMessage, aThrowable)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 if (hasI18nKey(aMessage)) {
@@ -992,21 +1801,107 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
         }
     }
 
-    @Override
-    public void warn(final Marker aMarker, final String aMessage) {
-        if (isWarnEnabled()) {
-            try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
-            MDCCloseable closeable = setLineNumber()) {
-                // We can output different types of EOL based on marker
-                addMarker(aMarker);
-
-                if (hasI18nKey(aMessage)) {
-                    myLogger.warn(aMarker, updateMessage(getI18n(aMessage)));
+    /**
+     * Logs a trace message with an argument that's only computed if trace logging is enabled.
+     *
+     * @param aMessage A message or message key
+     * @param aSupplier A supplier of an argument for the message
+     */
+    public void traceLazy(final String aMessage, final Supplier<?> aSupplier) {
+        if (isTraceEnabled()) {
+            trace(aMessage, get(aSupplier));
+        }
+    }
+
+    /**
+     * Logs a trace message with two arguments that are only computed if trace logging is enabled.
+     *
+     * @param aMessage A message or message key
+     * @param a1stSupplier A supplier of the first argument for the message
+     * @param a2ndSupplier A supplier of the second argument for the message
+     */
+    public void traceLazy(final String aMessage, final Supplier<?> a1stSupplier, final Supplier<?> a2ndSupplier) {
+        if (isTraceEnabled()) {
+            trace(aMessage, get(a1stSupplier), get(a2ndSupplier));
+        }
+    }
+
+    /**
+     * Logs a trace message with arguments that are only computed if trace logging is enabled.
+     *
+     * @param aMessage A message or message key
+     * @param aSuppliers Suppliers of arguments for the message
+     */
+    public void traceLazy(final String aMessage, final Supplier<?>... aSuppliers) {
+        if (isTraceEnabled()) {
+            trace(aMessage, get(aSuppliers));
+        }
+    }
+
+    /**
+     * Logs a trace message with a marker and an argument that's only computed if trace logging is enabled.
+     *
+     * @param aMarker A marker for the message
+     * @param aMessage A message or message key
+     * @param aSupplier A supplier of an argument for the message
+     */
+    public void traceLazy(final Marker aMarker, final String aMessage, final Supplier<?> aSupplier) {
+        if (isTraceEnabled()) {
+            trace(aMarker, aMessage, get(aSupplier));
+        }
+    }
+
+    /**
+     * Logs a trace message with a marker and two arguments that are only computed if trace logging is enabled.
+     *
+     * @param aMarker A marker for the message
+     * @param aMessage A message or message key
+     * @param a1stSupplier A supplier of the first argument for the message
+     * @param a2ndSupplier A supplier of the second argument for the message
+     */
+    public void traceLazy(final Marker aMarker, final String aMessage, final Supplier<?> a1stSupplier,
+            final Supplier<?> a2ndSupplier) {
+        if (isTraceEnabled()) {
+            trace(aMarker, aMessage, get(a1stSupplier), get(a2ndSupplier));
+        }
+    }
+
+    /**
+     * Logs a trace message with a marker and arguments that are only computed if trace logging is enabled.
+     *
+     * @param aMarker A marker for the message
+     * @param aMessage A message or message key
+     * @param aSuppliers Suppliers of arguments for the message
+     */
+    public void traceLazy(final Marker aMarker, final String aMessage, final Supplier<?>... aSuppliers) {
+        if (isTraceEnabled()) {
+            trace(aMarker, aMessage, get(aSuppliers));
+        }
+    }
+
+    @Override
+    public void warn(final Marker aMarker, final String aMessage) {
+        if (isWarnEnabled()) {
+            if (!admit(Level.WARN, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.WARN, aMarker, aMessage, null)) {
+                return;
+            }
+
+            try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
+            MDCCloseable closeable = setLineNumber()) {
+                // We can output different types of EOL based on marker
+                final EolMode eolMode = addMarker(aMarker);
+
+                if (hasI18nKey(aMessage)) {
+                    myLogger.warn(aMarker, eolMode.apply(getI18n(aMessage)));
                 } else {
-                    myLogger.warn(aMarker, updateMessage(aMessage));
+                    myLogger.warn(aMarker, eolMode.apply(aMessage));
                 }
 
-                clearMarker();
+                clearMarker(eolMode);
             }
         }
     }
@@ -1014,20 +1909,28 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void warn(final Marker aMarker, final String aMessage, final Object aDetail) {
         if (isWarnEnabled()) {
+            if (!admit(Level.WARN, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.WARN, aMarker, aMessage, null, aDetail)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
-                final String detail = aDetail.toString();
+                final String detail = String.valueOf(aDetail);
 
                 // We can output different types of EOL based on marker
-                addMarker(aMarker);
+                final EolMode eolMode = addMarker(aMarker);
 
                 if (hasI18nKey(aMessage)) {
-                    myLogger.warn(aMarker, updateMessage(getI18n(aMessage)), updateMessage(detail));
+                    myLogger.warn(aMarker, eolMode.apply(getI18n(aMessage)), eolMode.apply(detail));
                 } else {
-                    myLogger.warn(aMarker, updateMessage(aMessage), updateMessage(detail));
+                    myLogger.warn(aMarker, eolMode.apply(aMessage), eolMode.apply(detail));
                 }
 
-                clearMarker();
+                clearMarker(eolMode);
             }
         }
     }
@@ -1035,24 +1938,32 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void warn(final Marker aMarker, final String aMessage, final Object... aDetails) {
         if (isWarnEnabled()) {
+            if (!admit(Level.WARN, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.WARN, aMarker, aMessage, null, aDetails)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 final Object[] details = new String[aDetails.length];
 
                 // We can output different types of EOL based on marker
-                addMarker(aMarker);
+                final EolMode eolMode = addMarker(aMarker);
 
                 for (int index = 0; index < details.length; index++) {
-                    details[index] = updateMessage(aDetails[index].toString());
+                    details[index] = eolMode.apply(String.valueOf(aDetails[index]));
                 }
 
                 if (hasI18nKey(aMessage)) {
-                    myLogger.warn(aMarker, updateMessage(getI18n(aMessage)), details);
+                    myLogger.warn(aMarker, eolMode.apply(getI18n(aMessage)), details);
                 } else {
-                    myLogger.warn(aMarker, updateMessage(aMessage), details);
+                    myLogger.warn(aMarker, eolMode.apply(aMessage), details);
                 }
 
-                clearMarker();
+                clearMarker(eolMode);
             }
         }
     }
@@ -1060,22 +1971,30 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void warn(final Marker aMarker, final String aMessage, final Object a1stDetail, final Object a2ndDetail) {
         if (isWarnEnabled()) {
+            if (!admit(Level.WARN, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.WARN, aMarker, aMessage, null, a1stDetail, a2ndDetail)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
-                final String detail1 = a1stDetail.toString();
-                final String detail2 = a2ndDetail.toString();
+                final String detail1 = String.valueOf(a1stDetail);
+                final String detail2 = String.valueOf(a2ndDetail);
 
                 // We can output different types of EOL based on marker
-                addMarker(aMarker);
+                final EolMode eolMode = addMarker(aMarker);
 
                 if (hasI18nKey(aMessage)) {
-                    myLogger.warn(aMarker, updateMessage(getI18n(aMessage)), updateMessage(detail1),
-                            updateMessage(detail2));
+                    myLogger.warn(aMarker, eolMode.apply(getI18n(aMessage)), eolMode.apply(detail1),
+                            eolMode.apply(detail2));
                 } else {
-                    myLogger.warn(aMarker, updateMessage(aMessage), updateMessage(detail1), updateMessage(detail2));
+                    myLogger.warn(aMarker, eolMode.apply(aMessage), eolMode.apply(detail1), eolMode.apply(detail2));
                 }
 
-                clearMarker();
+                clearMarker(eolMode);
             }
         }
     }
@@ -1084,24 +2003,32 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void warn(final Marker aMarker, final String aMessage, final Throwable aThrowable) {
         if (isWarnEnabled()) {
+            if (!admit(Level.WARN, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.WARN, aMarker, aMessage, aThrowable)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 // We can output different types of EOL based on marker
-                addMarker(aMarker);
+                final EolMode eolMode = addMarker(aMarker);
 
                 if (hasI18nKey(aMessage)) {
                     if (aThrowable != null) {
-                        myLogger.warn(aMarker, updateMessage(getI18n(aMessage)), aThrowable);
+                        myLogger.warn(aMarker, eolMode.apply(getI18n(aMessage)), aThrowable);
                     } else {
-                        myLogger.warn(aMarker, updateMessage(getI18n(aMessage)));
+                        myLogger.warn(aMarker, eolMode.apply(getI18n(aMessage)));
                     }
                 } else if (aThrowable != null) {
-                    myLogger.warn(aMarker, updateMessage(aMessage), aThrowable);
+                    myLogger.warn(aMarker, eolMode.apply(aMessage), aThrowable);
                 } else {
-                    myLogger.warn(aMarker, updateMessage(aMessage));
+                    myLogger.warn(aMarker, eolMode.apply(aMessage));
                 }
 
-                clearMarker();
+                clearMarker(eolMode);
             }
         }
     }
@@ -1109,6 +2036,14 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void warn(final String aMessage) {
         if (isWarnEnabled()) {
+            if (!admit(Level.WARN, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.WARN, null, aMessage, null)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 if (hasI18nKey(aMessage)) {
@@ -1123,6 +2058,14 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void warn(final String aMessage, final Object aDetail) {
         if (isWarnEnabled()) {
+            if (!admit(Level.WARN, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.WARN, null, aMessage, null, aDetail)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 if (hasI18nKey(aMessage)) {
@@ -1137,6 +2080,14 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void warn(final String aMessage, final Object... aDetails) {
         if (isWarnEnabled()) {
+            if (!admit(Level.WARN, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.WARN, null, aMessage, null, aDetails)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 if (hasI18nKey(aMessage)) {
@@ -1151,6 +2102,14 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void warn(final String aMessage, final Object a1stDetail, final Object a2ndDetail) {
         if (isWarnEnabled()) {
+            if (!admit(Level.WARN, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.WARN, null, aMessage, null, a1stDetail, a2ndDetail)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 if (hasI18nKey(aMessage)) {
@@ -1166,6 +2125,14 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     @Override
     public void warn(final String aMessage, final Throwable aThrowable) {
         if (isWarnEnabled()) {
+            if (!admit(Level.WARN, aMessage)) {
+                return;
+            }
+
+            if (myRouted && route(Level.WARN, null, aMessage, aThrowable)) {
+                return;
+            }
+
             try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
             MDCCloseable closeable = setLineNumber()) {
                 if (hasI18nKey(aMessage)) {
@@ -1184,75 +2151,568 @@ public class Logger extends I18nObject implements org.slf4j.Logger {
     }
 
     /**
-     * Adds a marker that controls how the EOL is handled.
+     * Logs a warn message with an argument that's only computed if warn logging is enabled.
      *
-     * @param aMarker A marker possibly containing the desired EOL handling
+     * @param aMessage A message or message key
+     * @param aSupplier A supplier of an argument for the message
      */
-    private void addMarker(final Marker aMarker) {
-        if (aMarker.contains(LoggerMarker.EOL_TO_SPACE)) {
-            MDC.put(LoggerMarker.EOL_TO_SPACE, Boolean.TRUE.toString());
-        } else if (aMarker.contains(LoggerMarker.EOL_TO_CRLF)) {
-            MDC.put(LoggerMarker.EOL_TO_CRLF, Boolean.TRUE.toString());
-        } else if (aMarker.contains(LoggerMarker.EOL_TO_CR)) {
-            MDC.put(LoggerMarker.EOL_TO_CR, Boolean.TRUE.toString());
-        } else if (aMarker.contains(LoggerMarker.EOL_TO_LF)) {
-            MDC.put(LoggerMarker.EOL_TO_LF, Boolean.TRUE.toString());
+    public void warnLazy(final String aMessage, final Supplier<?> aSupplier) {
+        if (isWarnEnabled()) {
+            warn(aMessage, get(aSupplier));
         }
     }
 
     /**
-     * Clears the logger's marker.
+     * Logs a warn message with two arguments that are only computed if warn logging is enabled.
+     *
+     * @param aMessage A message or message key
+     * @param a1stSupplier A supplier of the first argument for the message
+     * @param a2ndSupplier A supplier of the second argument for the message
      */
-    private void clearMarker() {
-        if (MDC.get(LoggerMarker.EOL_TO_SPACE) != null) {
-            MDC.remove(LoggerMarker.EOL_TO_SPACE);
-        } else if (MDC.get(LoggerMarker.EOL_TO_CRLF) != null) {
-            MDC.remove(LoggerMarker.EOL_TO_CRLF);
-        } else if (MDC.get(LoggerMarker.EOL_TO_LF) != null) {
-            MDC.remove(LoggerMarker.EOL_TO_LF);
-        } else if (MDC.get(LoggerMarker.EOL_TO_CR) != null) {
-            MDC.remove(LoggerMarker.EOL_TO_CR);
+    public void warnLazy(final String aMessage, final Supplier<?> a1stSupplier, final Supplier<?> a2ndSupplier) {
+        if (isWarnEnabled()) {
+            warn(aMessage, get(a1stSupplier), get(a2ndSupplier));
         }
     }
 
     /**
-     * Sets the line number if debugging is enabled. This is a legacy option; one could also just configure different
-     * appenders/encoders in the Logback configuration file.
+     * Logs a warn message with arguments that are only computed if warn logging is enabled.
      *
-     * @return A handle that can remove the line number after it's no longer needed
+     * @param aMessage A message or message key
+     * @param aSuppliers Suppliers of arguments for the message
      */
-    private MDCCloseable setLineNumber() {
-        if (isDebugEnabled()) {
-            final int lineNum = Thread.currentThread().getStackTrace()[3].getLineNumber();
-            return MDC.putCloseable(LINE_NUM, COLON + Integer.toString(lineNum));
+    public void warnLazy(final String aMessage, final Supplier<?>... aSuppliers) {
+        if (isWarnEnabled()) {
+            warn(aMessage, get(aSuppliers));
         }
+    }
 
-        return null; // This should not throw a NPE... at least not in the JVMs I tested.
+    /**
+     * Logs a warn message with a marker and an argument that's only computed if warn logging is enabled.
+     *
+     * @param aMarker A marker for the message
+     * @param aMessage A message or message key
+     * @param aSupplier A supplier of an argument for the message
+     */
+    public void warnLazy(final Marker aMarker, final String aMessage, final Supplier<?> aSupplier) {
+        if (isWarnEnabled()) {
+            warn(aMarker, aMessage, get(aSupplier));
+        }
     }
 
     /**
-     * Updates the supplied message.
+     * Logs a warn message with a marker and two arguments that are only computed if warn logging is enabled.
      *
-     * @param aMessage A message to update
-     * @return An updated message
+     * @param aMarker A marker for the message
+     * @param aMessage A message or message key
+     * @param a1stSupplier A supplier of the first argument for the message
+     * @param a2ndSupplier A supplier of the second argument for the message
      */
-    private String updateMessage(final String aMessage) {
-        if (MDC.get(LoggerMarker.EOL_TO_SPACE) != null) {
-            return aMessage.replaceAll(EOL_RE, SPACE);
+    public void warnLazy(final Marker aMarker, final String aMessage, final Supplier<?> a1stSupplier,
+            final Supplier<?> a2ndSupplier) {
+        if (isWarnEnabled()) {
+            warn(aMarker, aMessage, get(a1stSupplier), get(a2ndSupplier));
         }
+    }
 
-        if (MDC.get(LoggerMarker.EOL_TO_CRLF) != null) {
-            return aMessage.replaceAll(EOL_RE, "\r\n");
+    /**
+     * Logs a warn message with a marker and arguments that are only computed if warn logging is enabled.
+     *
+     * @param aMarker A marker for the message
+     * @param aMessage A message or message key
+     * @param aSuppliers Suppliers of arguments for the message
+     */
+    public void warnLazy(final Marker aMarker, final String aMessage, final Supplier<?>... aSuppliers) {
+        if (isWarnEnabled()) {
+            warn(aMarker, aMessage, get(aSuppliers));
         }
+    }
 
-        if (MDC.get(LoggerMarker.EOL_TO_CR) != null) {
-            return aMessage.replaceAll(EOL_RE, "\r");
+    /**
+     * Queues a logging event with the logger's asynchronous dispatcher, capturing the caller's MDC (and line number).
+     *
+     * @param aLevel The level of the event
+     * @param aMarker A marker for the event, which may be null
+     * @param aMessage A message or message key
+     * @param aThrowable A throwable for the event, which may be null
+     * @param aDetails Additional details for the message
+     * @return True if the dispatcher accepted the event; false if it should be written on the current thread
+     */
+    private boolean enqueue(final Level aLevel, final Marker aMarker, final String aMessage,
+            final Throwable aThrowable, final Object... aDetails) {
+        final AsyncLogDispatcher dispatcher = myDispatcher;
+
+        if (dispatcher == null || dispatcher.isClosed() || AsyncLogDispatcher.isDispatchThread()) {
+            return false;
         }
 
-        if (MDC.get(LoggerMarker.EOL_TO_LF) != null) {
-            return aMessage.replaceAll(EOL_RE, "\n");
+        Map<String, String> context = MDC.getCopyOfContextMap();
+
+        if (myLineNumbersEnabled && isDebugEnabled()) {
+            if (context == null) {
+                context = new HashMap<>();
+            }
+
+            context.put(LINE_NUM, COLON + getLineNumber());
+        }
+
+        return dispatcher.enqueue(this, aLevel, aMarker, aMessage, aThrowable, aDetails, context);
+    }
+
+    /**
+     * Routes an event to the logger's asynchronous dispatcher or, if the logger is structured, writes it as a
+     * structured event.
+     *
+     * @param aLevel The level of the event
+     * @param aMarker A marker for the event, which may be null
+     * @param aMessage A message or message key
+     * @param aThrowable A throwable for the event, which may be null
+     * @param aDetails Additional details for the message
+     * @return True if the event was handled; false if it should be written with the wrapped logger's plain methods
+     */
+    private boolean route(final Level aLevel, final Marker aMarker, final String aMessage,
+            final Throwable aThrowable, final Object... aDetails) {
+        if (enqueue(aLevel, aMarker, aMessage, aThrowable, aDetails)) {
+            return true;
+        }
+
+        if (!myStructured) {
+            return false;
+        }
+
+        try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
+        MDCCloseable closeable = setLineNumber()) {
+            writeStructured(aLevel, aMarker, aMessage, aThrowable, aDetails);
         }
 
-        return aMessage;
+        return true;
+    }
+
+    /**
+     * Writes a structured event through SLF4J's fluent API. The message is passed as an unformatted template, with
+     * the details as its arguments, so formatting is left to the appenders that need it.
+     *
+     * @param aLevel The level of the event
+     * @param aMarker A marker for the event, which may be null
+     * @param aMessage A message or message key
+     * @param aThrowable A throwable for the event, which may be null
+     * @param aDetails Additional details for the message
+     */
+    @SuppressWarnings(PMD.USE_VARARGS)
+    private void writeStructured(final Level aLevel, final Marker aMarker, final String aMessage,
+            final Throwable aThrowable, final Object[] aDetails) {
+        final LoggingEventBuilder event = myLogger.atLevel(aLevel);
+        final EolMode eolMode = addMarker(aMarker);
+        final Object[] details;
+
+        if (eolMode == EolMode.NONE || aDetails == null) {
+            details = aDetails;
+        } else {
+            details = new String[aDetails.length];
+
+            for (int index = 0; index < aDetails.length; index++) {
+                details[index] = eolMode.apply(String.valueOf(aDetails[index]));
+            }
+        }
+
+        if (aMarker != null) {
+            event.addMarker(aMarker);
+        }
+
+        if (hasI18nKey(aMessage)) {
+            event.setMessage(eolMode.apply(getI18n(aMessage))).addKeyValue(MESSAGE_KEY, aMessage);
+        } else {
+            event.setMessage(eolMode.apply(aMessage));
+        }
+
+        if (details != null && details.length > 0) {
+            for (final Object detail : details) {
+                event.addArgument(detail);
+            }
+
+            event.addKeyValue(MESSAGE_ARGS, Arrays.asList(details));
+        }
+
+        if (aThrowable != null) {
+            event.setCause(aThrowable);
+        }
+
+        try {
+            event.log();
+        } finally {
+            clearMarker(eolMode);
+        }
+    }
+
+    /**
+     * Writes an event that was queued with the logger's asynchronous dispatcher, using the logging method that
+     * matches the original call.
+     *
+     * @param aLevel The level of the event
+     * @param aMarker A marker for the event, which may be null
+     * @param aMessage A message or message key
+     * @param aThrowable A throwable for the event, which may be null
+     * @param aDetails Additional details for the message
+     */
+    @SuppressWarnings({ PMD.CYCLOMATIC_COMPLEXITY, PMD.USE_VARARGS })
+    void write(final Level aLevel, final Marker aMarker, final String aMessage, final Throwable aThrowable,
+            final Object[] aDetails) {
+        if (aThrowable != null) {
+            writeCause(aLevel, aMarker, aMessage, aThrowable, aDetails);
+            return;
+        }
+
+        switch (aLevel) {
+            case ERROR -> {
+                if (aMarker != null) {
+                    error(aMarker, aMessage, aDetails);
+                } else {
+                    error(aMessage, aDetails);
+                }
+            }
+            case WARN -> {
+                if (aMarker != null) {
+                    warn(aMarker, aMessage, aDetails);
+                } else {
+                    warn(aMessage, aDetails);
+                }
+            }
+            case INFO -> {
+                if (aMarker != null) {
+                    info(aMarker, aMessage, aDetails);
+                } else {
+                    info(aMessage, aDetails);
+                }
+            }
+            case DEBUG -> {
+                if (aMarker != null) {
+                    debug(aMarker, aMessage, aDetails);
+                } else {
+                    debug(aMessage, aDetails);
+                }
+            }
+            default -> {
+                if (aMarker != null) {
+                    trace(aMarker, aMessage, aDetails);
+                } else {
+                    trace(aMessage, aDetails);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes an event with a throwable and any number of details. SLF4J's plain methods can't take both a throwable
+     * and details, so the message is formatted first, as {@link #error(Throwable, String, Object...)} does.
+     *
+     * @param aLevel The level of the event
+     * @param aMarker A marker for the event, which may be null
+     * @param aMessage A message or message key
+     * @param aThrowable A throwable for the event
+     * @param aDetails Additional details for the message, which may be null
+     */
+    @SuppressWarnings(PMD.USE_VARARGS)
+    private void writeCause(final Level aLevel, final Marker aMarker, final String aMessage,
+            final Throwable aThrowable, final Object[] aDetails) {
+        final Object[] details = aDetails == null ? new Object[0] : aDetails;
+
+        if (!isEnabled(aLevel) || !admit(aLevel, aMessage)) {
+            return;
+        }
+
+        if (myRouted && route(aLevel, aMarker, aMessage, aThrowable, details)) {
+            return;
+        }
+
+        try (@SuppressWarnings(PMD.UNUSED_LOCAL_VARIABLE)
+        MDCCloseable closeable = setLineNumber()) {
+            // We can output different types of EOL based on marker
+            final EolMode eolMode = addMarker(aMarker);
+            final String message;
+
+            if (hasI18nKey(aMessage)) {
+                message = eolMode.apply(getI18n(aMessage, details));
+            } else if (details.length == 0) {
+                message = eolMode.apply(aMessage);
+            } else {
+                message = eolMode.apply(StringUtils.format(aMessage, details));
+            }
+
+            switch (aLevel) {
+                case ERROR -> myLogger.error(aMarker, message, aThrowable);
+                case WARN -> myLogger.warn(aMarker, message, aThrowable);
+                case INFO -> myLogger.info(aMarker, message, aThrowable);
+                case DEBUG -> myLogger.debug(aMarker, message, aThrowable);
+                default -> myLogger.trace(aMarker, message, aThrowable);
+            }
+
+            clearMarker(eolMode);
+        }
+    }
+
+    /**
+     * Writes an event with a single detail, using the logging method that matches its level.
+     *
+     * @param aLevel The level of the event
+     * @param aMarker A marker for the event, which may be null
+     * @param aMessage A message or message key
+     * @param aDetail A detail for the message
+     */
+    void writeDetail(final Level aLevel, final Marker aMarker, final String aMessage, final Object aDetail) {
+        switch (aLevel) {
+            case ERROR -> {
+                if (aMarker != null) {
+                    error(aMarker, aMessage, aDetail);
+                } else {
+                    error(aMessage, aDetail);
+                }
+            }
+            case WARN -> {
+                if (aMarker != null) {
+                    warn(aMarker, aMessage, aDetail);
+                } else {
+                    warn(aMessage, aDetail);
+                }
+            }
+            case INFO -> {
+                if (aMarker != null) {
+                    info(aMarker, aMessage, aDetail);
+                } else {
+                    info(aMessage, aDetail);
+                }
+            }
+            case DEBUG -> {
+                if (aMarker != null) {
+                    debug(aMarker, aMessage, aDetail);
+                } else {
+                    debug(aMessage, aDetail);
+                }
+            }
+            default -> {
+                if (aMarker != null) {
+                    trace(aMarker, aMessage, aDetail);
+                } else {
+                    trace(aMessage, aDetail);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes an event with two details, using the logging method that matches its level.
+     *
+     * @param aLevel The level of the event
+     * @param aMarker A marker for the event, which may be null
+     * @param aMessage A message or message key
+     * @param a1stDetail The first detail for the message
+     * @param a2ndDetail The second detail for the message
+     */
+    void writeDetails(final Level aLevel, final Marker aMarker, final String aMessage, final Object a1stDetail,
+            final Object a2ndDetail) {
+        switch (aLevel) {
+            case ERROR -> {
+                if (aMarker != null) {
+                    error(aMarker, aMessage, a1stDetail, a2ndDetail);
+                } else {
+                    error(aMessage, a1stDetail, a2ndDetail);
+                }
+            }
+            case WARN -> {
+                if (aMarker != null) {
+                    warn(aMarker, aMessage, a1stDetail, a2ndDetail);
+                } else {
+                    warn(aMessage, a1stDetail, a2ndDetail);
+                }
+            }
+            case INFO -> {
+                if (aMarker != null) {
+                    info(aMarker, aMessage, a1stDetail, a2ndDetail);
+                } else {
+                    info(aMessage, a1stDetail, a2ndDetail);
+                }
+            }
+            case DEBUG -> {
+                if (aMarker != null) {
+                    debug(aMarker, aMessage, a1stDetail, a2ndDetail);
+                } else {
+                    debug(aMessage, a1stDetail, a2ndDetail);
+                }
+            }
+            default -> {
+                if (aMarker != null) {
+                    trace(aMarker, aMessage, a1stDetail, a2ndDetail);
+                } else {
+                    trace(aMessage, a1stDetail, a2ndDetail);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks an event against the logger's rate limiter and counts it, if either is enabled. If earlier events with
+     * the same message were suppressed, a summary of them is written first. Events replayed by an asynchronous
+     * dispatcher were already checked on the caller's thread.
+     *
+     * @param aLevel The level of the event
+     * @param aMessage A message or message key
+     * @return True if the event should be written; else, false
+     */
+    private boolean admit(final Level aLevel, final String aMessage) {
+        final LogRateLimiter rateLimiter = myRateLimiter;
+        final LoggerMetrics metrics = myMetrics;
+
+        if ((rateLimiter == null && metrics == null) || aMessage == null || AsyncLogDispatcher.isDispatchThread()) {
+            return true;
+        }
+
+        if (rateLimiter != null) {
+            final long suppressed = rateLimiter.acquire(aMessage);
+
+            if (suppressed == LogRateLimiter.SUPPRESSED) {
+                return false;
+            }
+
+            if (suppressed > 0) {
+                writeSummary(aLevel, LogRateLimiter.getSummary(suppressed, aMessage));
+            }
+        }
+
+        if (metrics != null) {
+            if (hasI18nKey(aMessage)) {
+                metrics.increment(aLevel, aMessage);
+            } else {
+                metrics.increment(aLevel);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Writes a summary of suppressed events, at the level of the suppressed events. Like any other event, it goes to
+     * the logger's asynchronous dispatcher or is written as a structured event if the logger is set up for either, so
+     * it stays in order with the events around it.
+     *
+     * @param aLevel The level of the suppressed events
+     * @param aSummary A summary of the suppressed events
+     */
+    private void writeSummary(final Level aLevel, final String aSummary) {
+        if (myRouted && route(aLevel, null, aSummary, null)) {
+            return;
+        }
+
+        switch (aLevel) {
+            case ERROR -> myLogger.error(aSummary);
+            case WARN -> myLogger.warn(aSummary);
+            case INFO -> myLogger.info(aSummary);
+            case DEBUG -> myLogger.debug(aSummary);
+            default -> myLogger.trace(aSummary);
+        }
+    }
+
+    /**
+     * Returns whether logging is enabled for the supplied level.
+     *
+     * @param aLevel A logging level
+     * @return True if logging is enabled for the supplied level; else, false
+     */
+    private boolean isEnabled(final Level aLevel) {
+        return switch (aLevel) {
+            case ERROR -> isErrorEnabled();
+            case WARN -> isWarnEnabled();
+            case INFO -> isInfoEnabled();
+            case DEBUG -> isDebugEnabled();
+            default -> isTraceEnabled();
+        };
+    }
+
+    /**
+     * Gets the value of the supplied supplier. A null supplier supplies a null value.
+     *
+     * @param aSupplier A supplier of an argument for a message
+     * @return The value of the supplied supplier
+     */
+    private static Object get(final Supplier<?> aSupplier) {
+        return aSupplier == null ? null : aSupplier.get();
+    }
+
+    /**
+     * Gets the values of the supplied suppliers.
+     *
+     * @param aSuppliers Suppliers of arguments for a message
+     * @return The values of the supplied suppliers
+     */
+    private static Object[] get(final Supplier<?>... aSuppliers) {
+        final Object[] values = new Object[aSuppliers.length];
+
+        for (int index = 0; index < values.length; index++) {
+            values[index] = get(aSuppliers[index]);
+        }
+
+        return values;
+    }
+
+    /**
+     * Resolves the EOL handling selected by the supplied marker. The mode is only published to the MDC if the logger
+     * has been configured to do so (i.e., if an appender needs to know about it).
+     *
+     * @param aMarker A marker possibly containing the desired EOL handling
+     * @return The EOL handling selected by the marker
+     */
+    private EolMode addMarker(final Marker aMarker) {
+        final EolMode eolMode = EolMode.from(aMarker);
+
+        if (PUBLISH_EOL_MODE && eolMode != EolMode.NONE) {
+            MDC.put(eolMode.getMarkerName(), Boolean.TRUE.toString());
+        }
+
+        return eolMode;
+    }
+
+    /**
+     * Clears the EOL handling from the MDC, if it was published there.
+     *
+     * @param aEolMode The EOL handling that was selected by the logging call's marker
+     */
+    private void clearMarker(final EolMode aEolMode) {
+        if (PUBLISH_EOL_MODE && aEolMode != EolMode.NONE) {
+            MDC.remove(aEolMode.getMarkerName());
+        }
+    }
+
+    /**
+     * Sets the line number if debugging is enabled. This is a legacy option; one could also just configure different
+     * appenders/encoders in the Logback configuration file.
+     *
+     * @return A handle that can remove the line number after it's no longer needed
+     */
+    private MDCCloseable setLineNumber() {
+        // Queued events already carry the line number of their original caller
+        if (myLineNumbersEnabled && isDebugEnabled() && !AsyncLogDispatcher.isDispatchThread()) {
+            return MDC.putCloseable(LINE_NUM, COLON + getLineNumber());
+        }
+
+        return null; // This should not throw a NPE... at least not in the JVMs I tested.
+    }
+
+    /**
+     * Gets the line number of the logger's caller. Only the frames up to the logger's caller are walked.
+     *
+     * @return The line number of the logger's caller, or -1 if it can't be determined
+     */
+    private static int getLineNumber() {
+        return STACK_WALKER.walk(frames -> frames.dropWhile(Logger::isLoggerFrame).findFirst())
+                .map(StackWalker.StackFrame::getLineNumber).orElse(-1);
+    }
+
+    /**
+     * Returns whether the supplied stack frame belongs to this logging class or its event builder.
+     *
+     * @param aFrame A stack frame
+     * @return True if the frame is from this logging class or its event builder; else, false
+     */
+    private static boolean isLoggerFrame(final StackWalker.StackFrame aFrame) {
+        final String className = aFrame.getClassName();
+        return Logger.class.getName().equals(className) || LogEventBuilder.class.getName().equals(className);
     }
 }
@@ -1,7 +1,10 @@
 
 package info.freelibrary.util;
 
+import java.util.Locale;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.slf4j.ILoggerFactory;
 
@@ -10,6 +13,11 @@ import org.slf4j.ILoggerFactory;
  */
 public final class LoggerFactory {
 
+    /**
+     * A cache of the loggers that have already been created, with the default locale each was created under.
+     */
+    private static final ConcurrentMap<LoggerKey, CachedLogger> LOGGERS = new ConcurrentHashMap<>();
+
     /**
      * Creates a new logger factory.
      */
@@ -51,13 +59,54 @@ public final class LoggerFactory {
     }
 
     /**
-     * Gets a {@link ResourceBundle} wrapped SLF4J {@link org.slf4j.Logger}.
+     * Gets a {@link ResourceBundle} wrapped SLF4J {@link org.slf4j.Logger}. Loggers are cached by name and bundle
+     * name so repeated requests for the same logger return the same instance, and so share its settings. If the
+     * default locale has changed since a logger was created, it's replaced by one that uses the new default locale's
+     * bundle and has the old logger's settings.
      *
      * @param aName A class to use for the logger name
      * @param aBundleName The name of the resource bundle to use
      * @return A resource bundle aware logger
      */
     public static Logger getLogger(final String aName, final String aBundleName) {
+        final LoggerKey key = new LoggerKey(aName, aBundleName);
+        final Locale locale = Locale.getDefault();
+        final CachedLogger cachedLogger = LOGGERS.get(key);
+
+        if (cachedLogger != null && cachedLogger.locale().equals(locale)) {
+            return cachedLogger.logger();
+        }
+
+        // Not computeIfAbsent() since creating a logger can initialize classes that request their own loggers
+        final Logger newLogger = createLogger(aName, aBundleName);
+        final CachedLogger newEntry = new CachedLogger(newLogger, locale);
+
+        if (cachedLogger == null) {
+            final CachedLogger oldEntry = LOGGERS.putIfAbsent(key, newEntry);
+            return oldEntry == null ? newLogger : oldEntry.logger();
+        }
+
+        newLogger.copySettings(cachedLogger.logger());
+
+        // If another thread replaced the stale logger first, its replacement is used instead
+        return LOGGERS.replace(key, cachedLogger, newEntry) ? newLogger : getLogger(aName, aBundleName);
+    }
+
+    /**
+     * Clears the cache of loggers that have already been created.
+     */
+    public static void clearCache() {
+        LOGGERS.clear();
+    }
+
+    /**
+     * Creates a new {@link ResourceBundle} wrapped SLF4J {@link org.slf4j.Logger}.
+     *
+     * @param aName A class to use for the logger name
+     * @param aBundleName The name of the resource bundle to use
+     * @return A resource bundle aware logger
+     */
+    private static Logger createLogger(final String aName, final String aBundleName) {
         final ILoggerFactory factory = org.slf4j.LoggerFactory.getILoggerFactory();
         final Logger logger;
 
@@ -70,4 +119,22 @@ public final class LoggerFactory {
         return logger;
     }
 
+    /**
+     * A key for the cache of loggers.
+     *
+     * @param name A logger name
+     * @param bundleName A resource bundle name, which may be null
+     */
+    private record LoggerKey(String name, String bundleName) {
+    }
+
+    /**
+     * A logger in the cache.
+     *
+     * @param logger A logger
+     * @param locale The locale that was the default when the logger was created
+     */
+    private record CachedLogger(Logger logger, Locale locale) {
+    }
+
 }
@@ -6,16 +6,16 @@ package info.freelibrary.util;
  */
 public final class LoggerMarker {
 
-    /** A constant that when supplied to MDC can control the formatting of messages. */
+    /** A marker name that, when supplied to the Logger, can control the formatting of messages. */
     public static final String EOL_TO_SPACE = "eol-to-space";
 
-    /** A constant that when supplied to MDC can control the formatting of messages. */
+    /** A marker name that, when supplied to the Logger, can control the formatting of messages. */
     public static final String EOL_TO_CRLF = "eol-to-crlf";
 
-    /** A constant that when supplied to MDC can control the formatting of messages. */
+    /** A marker name that, when supplied to the Logger, can control the formatting of messages. */
     public static final String EOL_TO_CR = "eol-to-cr";
 
-    /** A constant that when supplied to MDC can control the formatting of messages. */
+    /** A marker name that, when supplied to the Logger, can control the formatting of messages. */
     public static final String EOL_TO_LF = "eol-to-lf";
 
     /** A constant that when supplied to MDC can condense whitespace in messages. */
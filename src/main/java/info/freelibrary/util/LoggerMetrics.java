@@ -0,0 +1,187 @@
+
+package info.freelibrary.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.slf4j.event.Level;
+
+/**
+ * Counts the events a {@link Logger} writes, per level and per I18n message key. The counters are striped so that
+ * concurrent logging threads don't contend on them.
+ */
+public final class LoggerMetrics implements LoggerMetricsMBean {
+
+    /** The JMX domain and type under which logger metrics are registered. */
+    private static final String OBJECT_NAME = "info.freelibrary.util:type=LoggerMetrics,name=";
+
+    /** The counters for each level, indexed by the level's ordinal. */
+    private final LongAdder[] myLevelCounts = new LongAdder[Level.values().length];
+
+    /** The counters for each I18n message key. */
+    private final ConcurrentMap<String, LongAdder> myKeyCounts = new ConcurrentHashMap<>();
+
+    /** When the counters were last reset, in nanoseconds. */
+    private volatile long myResetTime;
+
+    /**
+     * Creates a new set of logger metrics.
+     */
+    LoggerMetrics() {
+        for (int index = 0; index < myLevelCounts.length; index++) {
+            myLevelCounts[index] = new LongAdder();
+        }
+
+        myResetTime = System.nanoTime();
+    }
+
+    /**
+     * Gets the number of events logged at the supplied level since the last reset.
+     *
+     * @param aLevel A logging level
+     * @return The number of events logged at the supplied level
+     */
+    public long getCount(final Level aLevel) {
+        return myLevelCounts[aLevel.ordinal()].sum();
+    }
+
+    /**
+     * Gets the number of events logged, per second, at the supplied level since the last reset.
+     *
+     * @param aLevel A logging level
+     * @return The number of events logged per second at the supplied level
+     */
+    public double getRate(final Level aLevel) {
+        return perSecond(getCount(aLevel));
+    }
+
+    /**
+     * Gets a snapshot of the number of events logged at each level since the last reset.
+     *
+     * @return A map of levels and their counts
+     */
+    public Map<Level, Long> getLevelCounts() {
+        final Map<Level, Long> counts = new EnumMap<>(Level.class);
+
+        for (final Level level : Level.values()) {
+            counts.put(level, getCount(level));
+        }
+
+        return counts;
+    }
+
+    @Override
+    public long getErrorCount() {
+        return getCount(Level.ERROR);
+    }
+
+    @Override
+    public long getWarnCount() {
+        return getCount(Level.WARN);
+    }
+
+    @Override
+    public long getInfoCount() {
+        return getCount(Level.INFO);
+    }
+
+    @Override
+    public long getDebugCount() {
+        return getCount(Level.DEBUG);
+    }
+
+    @Override
+    public long getTraceCount() {
+        return getCount(Level.TRACE);
+    }
+
+    @Override
+    public double getEventRate() {
+        long count = 0;
+
+        for (final LongAdder levelCount : myLevelCounts) {
+            count += levelCount.sum();
+        }
+
+        return perSecond(count);
+    }
+
+    @Override
+    public Map<String, Long> getKeyCounts() {
+        final Map<String, Long> counts = new TreeMap<>();
+
+        myKeyCounts.forEach((key, count) -> counts.put(key, count.sum()));
+        return counts;
+    }
+
+    @Override
+    public void reset() {
+        for (final LongAdder levelCount : myLevelCounts) {
+            levelCount.reset();
+        }
+
+        myKeyCounts.clear();
+        myResetTime = System.nanoTime();
+    }
+
+    /**
+     * Registers these metrics with the platform's MBean server, using the supplied logger name.
+     *
+     * @param aLoggerName The name of the logger whose metrics are being registered
+     * @return The name under which the metrics were registered
+     * @throws JMException If the metrics could not be registered
+     */
+    public ObjectName register(final String aLoggerName) throws JMException {
+        final ObjectName name = new ObjectName(OBJECT_NAME + ObjectName.quote(aLoggerName));
+
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+        return name;
+    }
+
+    /**
+     * Counts an event at the supplied level.
+     *
+     * @param aLevel The level of the event
+     */
+    void increment(final Level aLevel) {
+        myLevelCounts[aLevel.ordinal()].increment();
+    }
+
+    /**
+     * Counts an event at the supplied level for the supplied I18n message key.
+     *
+     * @param aLevel The level of the event
+     * @param aMessageKey The I18n message key of the event
+     */
+    void increment(final Level aLevel, final String aMessageKey) {
+        final LongAdder keyCount = myKeyCounts.get(aMessageKey);
+
+        myLevelCounts[aLevel.ordinal()].increment();
+
+        if (keyCount != null) {
+            keyCount.increment();
+        } else {
+            myKeyCounts.computeIfAbsent(aMessageKey, key -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Converts a count into a per second rate, using the time since the last reset.
+     *
+     * @param aCount A number of events
+     * @return The number of events per second
+     */
+    private double perSecond(final long aCount) {
+        final long elapsed = System.nanoTime() - myResetTime;
+        return elapsed <= 0 ? 0 : (double) aCount * TimeUnit.SECONDS.toNanos(1) / elapsed;
+    }
+}
@@ -0,0 +1,64 @@
+
+package info.freelibrary.util;
+
+import java.util.Map;
+
+/**
+ * The JMX management interface for a logger's {@link LoggerMetrics}.
+ */
+public interface LoggerMetricsMBean {
+
+    /**
+     * Gets the number of error events logged since the last reset.
+     *
+     * @return The number of error events
+     */
+    long getErrorCount();
+
+    /**
+     * Gets the number of warn events logged since the last reset.
+     *
+     * @return The number of warn events
+     */
+    long getWarnCount();
+
+    /**
+     * Gets the number of info events logged since the last reset.
+     *
+     * @return The number of info events
+     */
+    long getInfoCount();
+
+    /**
+     * Gets the number of debug events logged since the last reset.
+     *
+     * @return The number of debug events
+     */
+    long getDebugCount();
+
+    /**
+     * Gets the number of trace events logged since the last reset.
+     *
+     * @return The number of trace events
+     */
+    long getTraceCount();
+
+    /**
+     * Gets the number of events logged, per second, since the last reset.
+     *
+     * @return The number of events logged per second
+     */
+    double getEventRate();
+
+    /**
+     * Gets the number of events logged for each I18n message key since the last reset.
+     *
+     * @return A map of I18n message keys and their counts
+     */
+    Map<String, Long> getKeyCounts();
+
+    /**
+     * Resets the logger's counters.
+     */
+    void reset();
+}
@@ -0,0 +1,169 @@
+
+package info.freelibrary.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * A reader that decodes a file through a memory-mapped window that slides over the file, so the file's bytes are never
+ * copied onto the heap and files larger than a single mapping (2 GB) can be read. Malformed and unmappable input is
+ * replaced, as it is by {@link String#String(byte[], Charset)}. Like other readers, it isn't meant to be shared
+ * between threads.
+ */
+final class MappedFileReader extends Reader {
+
+    /** The default size of the mapped window, in bytes. */
+    static final int WINDOW_SIZE = 1 << 26;
+
+    /** The size of the buffer into which characters are decoded. */
+    private static final int BUFFER_SIZE = 8192;
+
+    /** The channel of the file being read. */
+    private final FileChannel myChannel;
+
+    /** The size of the file being read. */
+    private final long mySize;
+
+    /** The size of the mapped window. */
+    private final int myWindowSize;
+
+    /** The decoder of the file's bytes. */
+    private final CharsetDecoder myDecoder;
+
+    /** The decoded characters that haven't been read yet. */
+    private final CharBuffer myChars = CharBuffer.allocate(BUFFER_SIZE).flip();
+
+    /** The currently mapped part of the file. */
+    private ByteBuffer myWindow;
+
+    /** The position in the file of the start of the mapped window. */
+    private long myWindowStart;
+
+    /** Whether all the file's bytes have been decoded. */
+    private boolean myFinished;
+
+    /**
+     * Creates a reader for the supplied file.
+     *
+     * @param aFile A file to read
+     * @param aCharset The character set of the file
+     * @throws IOException If the file can't be opened
+     */
+    MappedFileReader(final File aFile, final Charset aCharset) throws IOException {
+        this(aFile, aCharset, WINDOW_SIZE);
+    }
+
+    /**
+     * Creates a reader for the supplied file that maps it through a window of the supplied size.
+     *
+     * @param aFile A file to read
+     * @param aCharset The character set of the file
+     * @param aWindowSize The size of the mapped window, in bytes; it must be large enough to hold one character
+     * @throws IOException If the file can't be opened
+     */
+    MappedFileReader(final File aFile, final Charset aCharset, final int aWindowSize) throws IOException {
+        super();
+
+        myChannel = FileChannel.open(aFile.toPath(), StandardOpenOption.READ);
+        mySize = myChannel.size();
+        myWindowSize = aWindowSize;
+        myDecoder = aCharset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+        try {
+            myWindow = map(0);
+        } catch (final IOException details) {
+            myChannel.close();
+            throw details;
+        }
+    }
+
+    /**
+     * Estimates the number of characters in the file.
+     *
+     * @return The estimated number of characters in the file
+     */
+    long estimateLength() {
+        return (long) (mySize * (double) myDecoder.averageCharsPerByte());
+    }
+
+    @Override
+    public int read(final char[] aBuffer, final int aOffset, final int aLength) throws IOException {
+        final int count;
+
+        Objects.checkFromIndexSize(aOffset, aLength, aBuffer.length);
+
+        if (!myChannel.isOpen()) {
+            throw new IOException(LoggerFactory.getLogger(MappedFileReader.class, MessageCodes.BUNDLE)
+                    .getI18n(MessageCodes.UTIL_089));
+        }
+
+        if (aLength == 0) {
+            return 0;
+        }
+
+        if (!myChars.hasRemaining() && !fill()) {
+            return -1;
+        }
+
+        count = Math.min(aLength, myChars.remaining());
+        myChars.get(aBuffer, aOffset, count);
+
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        myWindow = ByteBuffer.allocate(0);
+        myChannel.close();
+    }
+
+    /**
+     * Decodes more of the file into the character buffer.
+     *
+     * @return True if characters were decoded; false if the end of the file has been reached
+     * @throws IOException If the file can't be mapped
+     */
+    private boolean fill() throws IOException {
+        myChars.clear();
+
+        while (myChars.position() == 0 && !myFinished) {
+            final boolean endOfInput = myWindowStart + myWindow.limit() >= mySize;
+
+            // Overflow means the buffer is full; underflow means the window needs to move (or the input is done)
+            if (myDecoder.decode(myWindow, myChars, endOfInput).isUnderflow()) {
+                if (endOfInput) {
+                    myDecoder.flush(myChars);
+                    myFinished = true;
+                } else {
+                    // A character that's split by the end of the window starts the next window
+                    myWindow = map(myWindowStart + myWindow.position());
+                }
+            }
+        }
+
+        myChars.flip();
+        return myChars.hasRemaining();
+    }
+
+    /**
+     * Maps the window that starts at the supplied position in the file.
+     *
+     * @param aStart The position in the file at which the window starts
+     * @return The mapped window
+     * @throws IOException If the file can't be mapped
+     */
+    private ByteBuffer map(final long aStart) throws IOException {
+        myWindowStart = aStart;
+        return myChannel.map(FileChannel.MapMode.READ_ONLY, aStart, Math.min(myWindowSize, mySize - aStart));
+    }
+}
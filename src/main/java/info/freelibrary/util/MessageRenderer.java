@@ -0,0 +1,231 @@
+
+package info.freelibrary.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Renders the messages of a resource bundle in any of a set of supported locales. The bundle is loaded for each of
+ * the supported locales when the renderer is created, and messages are rendered from the bundles' compiled templates,
+ * so rendering a message doesn't load or parse anything. A renderer is thread-safe and is meant to be shared.
+ * <p>
+ * Messages can be rendered for an HTTP <code>Accept-Language</code> header (e.g. <code>fr-CA,fr;q=0.8,en;q=0.5</code>).
+ * The header's language ranges are matched against the supported locales in order of preference, and a message that
+ * isn't found in the most preferred locale is looked for in the next one, ending with the renderer's default locale.
+ * </p>
+ */
+public final class MessageRenderer {
+
+    /** The logger used by message renderers. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(MessageRenderer.class, MessageCodes.BUNDLE);
+
+    /** The maximum number of <code>Accept-Language</code> headers whose locale chains are cached. */
+    private static final int MAX_CHAINS = 1024;
+
+    /** The name of the resource bundle whose messages are rendered. */
+    private final String myBundleName;
+
+    /** The supported locales, the first of which is the default locale. */
+    private final List<Locale> myLocales;
+
+    /** The locale chain used when no supported locale is requested. */
+    private final List<Locale> myDefaultChain;
+
+    /** The locale chains of <code>Accept-Language</code> headers that have already been negotiated. */
+    private final ConcurrentMap<String, List<Locale>> myChains = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a message renderer for the supplied bundle and locales. The first locale is the renderer's default
+     * locale; if no locales are supplied, the system's default locale is used.
+     *
+     * @param aBundleName The name of a resource bundle
+     * @param aLocales The locales in which messages can be rendered
+     * @throws MissingResourceException If the bundle can't be found for one of the locales
+     */
+    public MessageRenderer(final String aBundleName, final Locale... aLocales) {
+        this(aBundleName, Arrays.asList(aLocales));
+    }
+
+    /**
+     * Creates a message renderer for the supplied bundle and locales. The first locale is the renderer's default
+     * locale; if no locales are supplied, the system's default locale is used.
+     *
+     * @param aBundleName The name of a resource bundle
+     * @param aLocales The locales in which messages can be rendered
+     * @throws MissingResourceException If the bundle can't be found for one of the locales
+     */
+    public MessageRenderer(final String aBundleName, final Collection<Locale> aLocales) {
+        myBundleName = aBundleName;
+        myLocales = aLocales.isEmpty() ? List.of(Locale.getDefault()) : List.copyOf(aLocales);
+        myDefaultChain = List.of(myLocales.get(0));
+
+        for (final Locale locale : myLocales) {
+            BundleCache.get(myBundleName, locale);
+        }
+    }
+
+    /**
+     * Gets the name of the resource bundle whose messages are rendered.
+     *
+     * @return The name of the resource bundle
+     */
+    public String getBundleName() {
+        return myBundleName;
+    }
+
+    /**
+     * Gets the locales in which messages can be rendered. The first is the renderer's default locale.
+     *
+     * @return The supported locales
+     */
+    public List<Locale> getLocales() {
+        return myLocales;
+    }
+
+    /**
+     * Gets the supported locale that best matches the supplied <code>Accept-Language</code> header.
+     *
+     * @param aAcceptLanguage An <code>Accept-Language</code> header
+     * @return The best matching locale, or the renderer's default locale if none of the supported locales match
+     */
+    public Locale negotiate(final String aAcceptLanguage) {
+        return getChain(aAcceptLanguage).get(0);
+    }
+
+    /**
+     * Renders a message in the supplied locale. A message that isn't found in the locale is rendered in the
+     * renderer's default locale.
+     *
+     * @param aLocale The locale in which to render the message
+     * @param aMessageKey The key of the message
+     * @param aDetails Additional details to integrate into the message
+     * @return The rendered message
+     * @throws MissingResourceException If the message isn't found
+     */
+    public String render(final Locale aLocale, final String aMessageKey, final Object... aDetails) {
+        final Locale defaultLocale = myDefaultChain.get(0);
+
+        if (aLocale == null || aLocale.equals(defaultLocale)) {
+            return render(myDefaultChain, aMessageKey, aDetails);
+        }
+
+        return render(List.of(aLocale, defaultLocale), aMessageKey, aDetails);
+    }
+
+    /**
+     * Renders a message in the supported locale that best matches the supplied <code>Accept-Language</code> header,
+     * falling back to the header's less preferred locales and then to the renderer's default locale when the message
+     * isn't found.
+     *
+     * @param aAcceptLanguage An <code>Accept-Language</code> header
+     * @param aMessageKey The key of the message
+     * @param aDetails Additional details to integrate into the message
+     * @return The rendered message
+     * @throws MissingResourceException If the message isn't found
+     */
+    public String render(final String aAcceptLanguage, final String aMessageKey, final Object... aDetails) {
+        return render(getChain(aAcceptLanguage), aMessageKey, aDetails);
+    }
+
+    /**
+     * Renders a message in the first of the supplied locales that has it.
+     *
+     * @param aChain The locales in which to look for the message, in order of preference
+     * @param aMessageKey The key of the message
+     * @param aDetails Additional details to integrate into the message
+     * @return The rendered message
+     * @throws MissingResourceException If the message isn't found
+     */
+    private String render(final List<Locale> aChain, final String aMessageKey, final Object... aDetails) {
+        for (final Locale locale : aChain) {
+            final MessageTemplate template = BundleCache.get(myBundleName, locale).findTemplate(aMessageKey);
+
+            if (template != null) {
+                return template.format(aDetails);
+            }
+        }
+
+        throw new MissingResourceException(LOGGER.getI18n(MessageCodes.UTIL_088, aMessageKey, myBundleName, aChain),
+                myBundleName, aMessageKey);
+    }
+
+    /**
+     * Gets the chain of supported locales for the supplied <code>Accept-Language</code> header, in order of
+     * preference and ending with the renderer's default locale. Chains are cached, up to a limit, since the same
+     * headers are seen again and again.
+     *
+     * @param aAcceptLanguage An <code>Accept-Language</code> header
+     * @return The chain of supported locales
+     */
+    private List<Locale> getChain(final String aAcceptLanguage) {
+        List<Locale> chain;
+
+        if (aAcceptLanguage == null || aAcceptLanguage.isBlank()) {
+            return myDefaultChain;
+        }
+
+        chain = myChains.get(aAcceptLanguage);
+
+        if (chain == null) {
+            chain = negotiateChain(aAcceptLanguage);
+
+            if (myChains.size() < MAX_CHAINS) {
+                myChains.putIfAbsent(aAcceptLanguage, chain);
+            }
+        }
+
+        return chain;
+    }
+
+    /**
+     * Matches the language ranges of an <code>Accept-Language</code> header against the supported locales. Each range
+     * is matched using RFC 4647 filtering (so <code>en</code> matches <code>en-US</code>) and, if that finds nothing,
+     * lookup (so <code>fr-CA</code> matches <code>fr</code>). A header that can't be parsed gets the default chain.
+     *
+     * @param aAcceptLanguage An <code>Accept-Language</code> header
+     * @return The chain of supported locales
+     */
+    private List<Locale> negotiateChain(final String aAcceptLanguage) {
+        final List<Locale> chain = new ArrayList<>();
+        final List<Locale.LanguageRange> ranges;
+
+        try {
+            ranges = Locale.LanguageRange.parse(aAcceptLanguage);
+        } catch (final IllegalArgumentException details) {
+            return myDefaultChain;
+        }
+
+        for (final Locale.LanguageRange range : ranges) {
+            if (range.getWeight() > 0) {
+                final List<Locale.LanguageRange> priority = List.of(range);
+                final List<Locale> matches = Locale.filter(priority, myLocales);
+
+                if (matches.isEmpty()) {
+                    final Locale match = Locale.lookup(priority, myLocales);
+
+                    if (match != null && !chain.contains(match)) {
+                        chain.add(match);
+                    }
+                } else {
+                    for (final Locale match : matches) {
+                        if (!chain.contains(match)) {
+                            chain.add(match);
+                        }
+                    }
+                }
+            }
+        }
+
+        if (!chain.contains(myDefaultChain.get(0))) {
+            chain.add(myDefaultChain.get(0));
+        }
+
+        return List.copyOf(chain);
+    }
+}
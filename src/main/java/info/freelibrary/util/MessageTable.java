@@ -0,0 +1,73 @@
+
+package info.freelibrary.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An immutable table of a bundle's compiled message templates. A bundle's table is combined with those of its parents
+ * once, so a template lookup is a single hash table probe rather than a walk up the bundle's parent chain.
+ */
+final class MessageTable {
+
+    /** The table's templates, which aren't changed after the table is created. */
+    private final Map<String, MessageTemplate> myTemplates;
+
+    /**
+     * Creates a new message table from the supplied templates.
+     *
+     * @param aTemplates A map of message keys and their compiled templates
+     */
+    MessageTable(final Map<String, MessageTemplate> aTemplates) {
+        myTemplates = new HashMap<>(aTemplates);
+    }
+
+    /**
+     * Gets the template for the supplied message key.
+     *
+     * @param aKey A message key
+     * @return The key's template, or null if the table doesn't contain the key
+     */
+    MessageTemplate get(final String aKey) {
+        return myTemplates.get(aKey);
+    }
+
+    /**
+     * Returns whether the table contains the supplied message key.
+     *
+     * @param aKey A message key
+     * @return True if the table contains the key; else, false
+     */
+    boolean contains(final String aKey) {
+        return myTemplates.containsKey(aKey);
+    }
+
+    /**
+     * Gets the number of templates in the table.
+     *
+     * @return The number of templates in the table
+     */
+    int size() {
+        return myTemplates.size();
+    }
+
+    /**
+     * Creates a table that contains this table's templates and those of the supplied parent table that this table
+     * doesn't override.
+     *
+     * @param aParent The table of a parent bundle
+     * @return A table that combines this table with its parent
+     */
+    MessageTable withParent(final MessageTable aParent) {
+        final Map<String, MessageTemplate> templates;
+
+        if (aParent.size() == 0) {
+            return this;
+        }
+
+        templates = new HashMap<>(aParent.myTemplates);
+        templates.putAll(myTemplates);
+
+        return new MessageTable(templates);
+    }
+}
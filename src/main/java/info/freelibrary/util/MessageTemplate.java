@@ -0,0 +1,128 @@
+
+package info.freelibrary.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A message template in the form "This is {} text {}" that has been parsed into its literal text and its
+ * <code>{}</code> slots, so it can be formatted repeatedly without being rescanned.
+ */
+public final class MessageTemplate {
+
+    /** The logger used by the message template. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(MessageTemplate.class, MessageCodes.BUNDLE);
+
+    /** The template's original string form. */
+    private final String myTemplate;
+
+    /** The literal text that surrounds the template's slots; there is one more literal than there are slots. */
+    private final String[] myLiterals;
+
+    /** The combined length of the template's literal text. */
+    private final int myLiteralLength;
+
+    /**
+     * Creates a new message template from its parsed literals.
+     *
+     * @param aTemplate The template's original string form
+     * @param aLiterals The literal text that surrounds the template's slots
+     */
+    private MessageTemplate(final String aTemplate, final String... aLiterals) {
+        int length = 0;
+
+        for (final String literal : aLiterals) {
+            length += literal.length();
+        }
+
+        myTemplate = aTemplate;
+        myLiterals = aLiterals;
+        myLiteralLength = length;
+    }
+
+    /**
+     * Compiles the supplied string into a message template.
+     *
+     * @param aTemplate A string that contains curly braces in the form <code>{}</code>
+     * @return A message template
+     */
+    public static MessageTemplate compile(final String aTemplate) {
+        final List<String> literals = new ArrayList<>();
+        int start = 0;
+        int index;
+
+        while ((index = aTemplate.indexOf(Constants.MESSAGE_SLOT, start)) != -1) {
+            literals.add(aTemplate.substring(start, index));
+            start = index + Constants.MESSAGE_SLOT.length();
+        }
+
+        literals.add(aTemplate.substring(start));
+
+        return new MessageTemplate(aTemplate, literals.toArray(new String[0]));
+    }
+
+    /**
+     * Gets the number of <code>{}</code> slots in the template.
+     *
+     * @return The number of slots in the template
+     */
+    public int getSlotCount() {
+        return myLiterals.length - 1;
+    }
+
+    /**
+     * Formats the template using the supplied details. The string form of each detail comes from the object's
+     * <code>toString()</code> method.
+     *
+     * @param aDetails Additional details to integrate into the message
+     * @return The formatted message
+     * @throws IndexOutOfBoundsException If the number of details doesn't match the number of slots
+     */
+    public String format(final Object... aDetails) {
+        return format(StringUtils.toStrings(aDetails));
+    }
+
+    /**
+     * Formats the template by replacing its <code>{}</code> slots with the supplied strings.
+     *
+     * @param aDetails Strings that should be put in place of the template's slots
+     * @return The formatted message
+     * @throws IndexOutOfBoundsException If the number of details doesn't match the number of slots
+     */
+    public String format(final String... aDetails) {
+        final int slotCount = getSlotCount();
+
+        if (slotCount != aDetails.length) {
+            throw new IndexOutOfBoundsException(LOGGER.getI18n(MessageCodes.UTIL_043, slotCount, aDetails.length,
+                    StringUtils.toString(aDetails, '|')));
+        }
+
+        if (slotCount == 0) {
+            return myTemplate;
+        }
+
+        int length = myLiteralLength;
+
+        for (int index = 0; index < slotCount; index++) {
+            length += String.valueOf(aDetails[index]).length();
+        }
+
+        final StringBuilder builder = new StringBuilder(length).append(myLiterals[0]);
+
+        for (int index = 0; index < slotCount; index++) {
+            builder.append(aDetails[index]).append(myLiterals[index + 1]);
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Returns the template's original string form.
+     *
+     * @return The template's original string form
+     */
+    @Override
+    public String toString() {
+        return myTemplate;
+    }
+}
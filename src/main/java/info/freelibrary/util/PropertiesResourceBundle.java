@@ -19,7 +19,20 @@ class PropertiesResourceBundle extends AbstractResourceBundle {
      * @throws IOException If there is trouble reading from the properties file
      */
     PropertiesResourceBundle(final InputStream aInStream) throws IOException {
-        super(new Properties());
-        myProperties.load(aInStream);
+        super(load(aInStream));
+    }
+
+    /**
+     * Loads the bundle's properties from the supplied property file {@link InputStream}.
+     *
+     * @param aInStream A property file {@link InputStream}
+     * @return The bundle's properties
+     * @throws IOException If there is trouble reading from the properties file
+     */
+    static Properties load(final InputStream aInStream) throws IOException {
+        final Properties properties = new Properties();
+
+        properties.load(aInStream);
+        return properties;
     }
 }
@@ -5,10 +5,10 @@ import static info.freelibrary.util.Constants.EOL;
 import static info.freelibrary.util.Constants.SPACE;
 import static java.util.stream.Collectors.joining;
 
+import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.nio.ByteBuffer;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -18,8 +18,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import info.freelibrary.util.warnings.PMD;
 
@@ -32,11 +31,11 @@ public final class StringUtils {
     /** The logger used by the string utilities. */
     private static final Logger LOGGER = LoggerFactory.getLogger(StringUtils.class, MessageCodes.BUNDLE);
 
-    /** A message format regex pattern. */
-    private static final Pattern PATTERN = Pattern.compile("\\{}");
+    /** The size of the buffer used when reading files. */
+    private static final int READ_BUFFER_SIZE = 8192;
 
-    /** A range delimiter constant. */
-    private static final String RANGE_DELIMITER = "-";
+    /** The largest capacity that's requested for a string builder. */
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
 
     /**
      * Creates a class of string utilities.
@@ -80,22 +79,16 @@ public final class StringUtils {
     /**
      * Takes a <code>String</code> in the form "This is {} text {}" and replaces the <code>{}</code>s with values from
      * the supplied <code>String[]</code>. The number of curly braces should be the same as the number of strings in the
-     * string array.
+     * string array. The message is compiled on each call; a message that's formatted repeatedly can be compiled
+     * once with {@link MessageTemplate#compile(String)}, as resource bundles do with their messages.
      *
      * @param aMessage A string that contains curly braces in the form <code>{}</code>
      * @param aDetails Strings that should be put in place of the curly braces in the message string.
      * @return The formatted string
+     * @throws IndexOutOfBoundsException If the number of details doesn't match the number of slots
      */
     public static String format(final String aMessage, final String... aDetails) {
-        final StringBuilder builder = new StringBuilder();
-        final Matcher matcher = PATTERN.matcher(aMessage);
-
-        for (int index = checkBracketCount(aMessage, aDetails); matcher.find(); index++) {
-            matcher.appendReplacement(builder, Constants.EMPTY);
-            builder.append(aDetails[index]);
-        }
-
-        return matcher.appendTail(builder).toString();
+        return MessageTemplate.compile(aMessage).format(aDetails);
     }
 
     /**
@@ -142,26 +135,99 @@ public final class StringUtils {
             return Constants.EMPTY;
         }
 
-        final Iterator<String> iterator = aMap.keySet().iterator();
-        final StringBuilder buffer = new StringBuilder();
-        final int length;
+        return joinKeys(new StringBuilder(), aMap, aSeparator).toString();
+    }
+
+    /**
+     * Appends the keys in a map, separated by the supplied character, to a string builder. The builder's capacity is
+     * increased once, to fit the keys, so a builder can be reused across calls without growing piecemeal. The order is
+     * only consistent if the map is sorted.
+     *
+     * @param aBuilder The string builder to which to append the keys
+     * @param aMap The map from which to pull the keys
+     * @param aSeparator The character separator for the construction of the string
+     * @return The supplied string builder
+     */
+    public static StringBuilder joinKeys(final StringBuilder aBuilder, final Map<String, ?> aMap,
+            final char aSeparator) {
+        final Iterator<String> iterator;
+        long length = aMap.size() - 1L;
+
+        if (aMap.isEmpty()) {
+            return aBuilder;
+        }
+
+        for (final String key : aMap.keySet()) {
+            length += String.valueOf(key).length();
+        }
+
+        ensureCapacity(aBuilder, length);
+        iterator = aMap.keySet().iterator();
+        aBuilder.append(iterator.next());
 
         while (iterator.hasNext()) {
-            buffer.append(iterator.next()).append(aSeparator);
+            aBuilder.append(aSeparator).append(iterator.next());
         }
 
-        length = buffer.length() - 1;
-        return buffer.charAt(length) == aSeparator ? buffer.substring(0, length) : buffer.toString();
+        return aBuilder;
     }
 
     /**
-     * Normalizes white space in the message value.
+     * Normalizes white space in the message value, replacing each run of white space characters (those matched by
+     * the regular expression <code>\s</code>) with a single space. A message that's already normalized is returned
+     * as is.
      *
      * @param aMessage A message
      * @return The message with white space normalized
      */
     public static String normalizeWS(final String aMessage) {
-        return aMessage.replaceAll("\\s+", SPACE);
+        final int length = aMessage.length();
+        final char[] chars;
+        int start = 0;
+        int normalizedLength;
+        int position;
+        boolean isSpace;
+
+        // Find the first character that has to change: a white space character that's not a space or that follows one
+        while (start < length && !isRunStart(aMessage, start)) {
+            start++;
+        }
+
+        if (start == length) {
+            return aMessage;
+        }
+
+        normalizedLength = start;
+        isSpace = false;
+
+        for (int index = start; index < length; index++) {
+            final boolean isWhiteSpace = isWhiteSpace(aMessage.charAt(index));
+
+            if (!isWhiteSpace || !isSpace) {
+                normalizedLength++;
+            }
+
+            isSpace = isWhiteSpace;
+        }
+
+        chars = new char[normalizedLength];
+        aMessage.getChars(0, start, chars, 0);
+        position = start;
+        isSpace = false;
+
+        for (int index = start; index < length; index++) {
+            final char character = aMessage.charAt(index);
+
+            if (!isWhiteSpace(character)) {
+                chars[position++] = character;
+                isSpace = false;
+            } else if (!isSpace) {
+                chars[position++] = ' ';
+                isSpace = true;
+            }
+        }
+
+        return new String(chars);
     }
 
     /**
@@ -186,54 +252,41 @@ public final class StringUtils {
      */
     public static String padStart(final String aString, final String aPadding, final int aRepeatCount) {
         if (aRepeatCount != 0) {
-            final StringBuilder buffer = new StringBuilder();
-
-            for (int index = 0; index < aRepeatCount; index++) {
-                buffer.append(aPadding);
-            }
-
-            return buffer.append(aString).toString();
+            return padStart(new StringBuilder(), aString, aPadding, aRepeatCount).toString();
         }
 
         return aString;
     }
 
+    /**
+     * Appends a supplied string, padded at the beginning with the repetition of a supplied value, to a string builder.
+     * The builder's capacity is increased once, to fit the padded string.
+     *
+     * @param aBuilder The string builder to which to append the padded string
+     * @param aString The string to pad
+     * @param aPadding The string to be repeated as the padding
+     * @param aRepeatCount How many times to repeat the padding
+     * @return The supplied string builder
+     */
+    public static StringBuilder padStart(final StringBuilder aBuilder, final String aString, final String aPadding,
+            final int aRepeatCount) {
+        final int paddingLength = String.valueOf(aPadding).length() * Math.max(aRepeatCount, 0);
+
+        ensureCapacity(aBuilder, (long) String.valueOf(aString).length() + paddingLength);
+        return repeat(aBuilder, aPadding, aRepeatCount).append(aString);
+    }
+
     /**
      * Parses strings with an integer range (e.g., 2-5) and returns an expanded integer array {2, 3, 4, 5} with those
-     * values.
+     * values. Several comma-separated integers and ranges (e.g., 1-5,9,20-30) may be given. Wide ranges are better
+     * handled with {@link IntRange#parse(String)}, which doesn't expand them into an array.
      *
      * @param aIntRange A string representation of a range of integers
      * @return An int array with the expanded values of the string representation
      * @throws NumberFormatException if the supplied string isn't an integer range
      */
-    @SuppressWarnings(PMD.AVOID_LITERALS_IN_IF_CONDITION)
     public static int[] parseIntRange(final String aIntRange) {
-        final String[] range = aIntRange.split(RANGE_DELIMITER);
-        final int[] ints;
-
-        if (range.length == 1) {
-            ints = new int[range.length];
-            ints[0] = Integer.parseInt(aIntRange);
-        } else {
-            final int start = Integer.parseInt(range[0]);
-            final int end = Integer.parseInt(range[1]);
-
-            if (end < start) {
-                throw new NumberFormatException(LOGGER.getI18n(MessageCodes.UTIL_045, start, RANGE_DELIMITER, end));
-            }
-
-            int position = 0;
-            final int size = end - start;
-
-            ints = new int[size + 1]; // because we're zero-based
-
-            for (int index = start; index <= end; index++) {
-                ints[position] = index;
-                position++;
-            }
-        }
-
-        return ints;
+        return IntRange.parse(aIntRange).toArray();
     }
 
     /**
@@ -244,18 +297,14 @@ public final class StringUtils {
      * @throws IOException If the supplied file could not be read
      */
     public static String read(final File aFile) throws IOException {
-        String string = new String(readBytes(aFile), StandardCharsets.UTF_8);
-
-        if (string.endsWith(EOL)) {
-            string = string.substring(0, string.length() - 1);
-        }
-
-        return string;
+        return read(aFile, StandardCharsets.UTF_8);
     }
 
     /**
      * Reads the contents of a file using the supplied {@link Charset}; the default system charset may vary across
-     * systems so can't be trusted.
+     * systems so can't be trusted. The file is memory-mapped and decoded straight into the resulting string, so its
+     * bytes aren't copied onto the heap first; files too large to hold in a string should be read with
+     * {@link #lines(File, Charset)} instead.
      *
      * @param aFile The file from which to read
      * @param aCharset The character set of the file to be read
@@ -263,13 +312,45 @@ public final class StringUtils {
      * @throws IOException If the supplied file could not be read
      */
     public static String read(final File aFile, final Charset aCharset) throws IOException {
-        String string = new String(readBytes(aFile), aCharset);
+        try (MappedFileReader reader = new MappedFileReader(aFile, aCharset)) {
+            final StringBuilder builder = new StringBuilder((int) Math.min(reader.estimateLength(), MAX_CAPACITY));
+            final char[] buffer = new char[READ_BUFFER_SIZE];
+            int count;
+
+            while ((count = reader.read(buffer, 0, buffer.length)) != -1) {
+                builder.append(buffer, 0, count);
+            }
+
+            final int length = builder.length();
 
-        if (string.endsWith(EOL)) {
-            string = string.substring(0, string.length() - 1);
+            if (length >= EOL.length() && EOL.contentEquals(builder.subSequence(length - EOL.length(), length))) {
+                builder.setLength(length - 1);
+            }
+
+            return builder.toString();
         }
+    }
 
-        return string;
+    /**
+     * Reads the lines of a file using the supplied {@link Charset}. The file is memory-mapped and decoded as the
+     * stream is consumed, so only a small part of it is held in memory at a time, and files of any size can be read.
+     * The stream should be closed, with a try-with-resources statement for instance, to release the file.
+     *
+     * @param aFile The file from which to read
+     * @param aCharset The character set of the file to be read
+     * @return A stream of the lines in the file
+     * @throws IOException If the supplied file could not be opened
+     */
+    public static Stream<String> lines(final File aFile, final Charset aCharset) throws IOException {
+        final BufferedReader reader = new BufferedReader(new MappedFileReader(aFile, aCharset));
+
+        return reader.lines().onClose(() -> {
+            try {
+                reader.close();
+            } catch (final IOException details) {
+                throw new UncheckedIOException(details);
+            }
+        });
     }
 
     /**
@@ -293,13 +374,26 @@ public final class StringUtils {
      * @return The new string containing the supplied value repeated the specified number of times
      */
     public static String repeat(final char aChar, final int aRepeatCount) {
-        final StringBuilder buffer = new StringBuilder();
+        return repeat(new StringBuilder(), aChar, aRepeatCount).toString();
+    }
+
+    /**
+     * Appends the repetition of a supplied char to a string builder. The builder's capacity is increased once, to fit
+     * the repeated chars.
+     *
+     * @param aBuilder The string builder to which to append the repeated char
+     * @param aChar The char to repeat
+     * @param aRepeatCount The number of times to repeat the supplied value
+     * @return The supplied string builder
+     */
+    public static StringBuilder repeat(final StringBuilder aBuilder, final char aChar, final int aRepeatCount) {
+        ensureCapacity(aBuilder, aRepeatCount);
 
         for (int index = 0; index < aRepeatCount; index++) {
-            buffer.append(aChar);
+            aBuilder.append(aChar);
         }
 
-        return buffer.toString();
+        return aBuilder;
     }
 
     /**
@@ -310,13 +404,26 @@ public final class StringUtils {
      * @return The new string containing the supplied value repeated the specified number of times
      */
     public static String repeat(final String aValue, final int aRepeatCount) {
-        final StringBuilder buffer = new StringBuilder();
+        return repeat(new StringBuilder(), aValue, aRepeatCount).toString();
+    }
+
+    /**
+     * Appends the repetition of a supplied value to a string builder. The builder's capacity is increased once, to fit
+     * the repeated values.
+     *
+     * @param aBuilder The string builder to which to append the repeated value
+     * @param aValue The string to repeat
+     * @param aRepeatCount The number of times to repeat the supplied value
+     * @return The supplied string builder
+     */
+    public static StringBuilder repeat(final StringBuilder aBuilder, final String aValue, final int aRepeatCount) {
+        ensureCapacity(aBuilder, (long) String.valueOf(aValue).length() * aRepeatCount);
 
         for (int index = 0; index < aRepeatCount; index++) {
-            buffer.append(aValue);
+            aBuilder.append(aValue);
         }
 
-        return buffer.toString();
+        return aBuilder;
     }
 
     /**
@@ -331,36 +438,15 @@ public final class StringUtils {
 
     /**
      * Formats a string with or without line breaks into a string with lines with less than a supplied number of
-     * characters per line.
+     * characters per line. Lines that are wrapped are indented with two spaces. Larger texts can be wrapped as they're
+     * read, with other indentation, using a {@link WordWrapper}.
      *
      * @param aString A string to format
      * @param aCount A number of characters to allow per line
      * @return A string formatted using the supplied count
      */
     public static String toCharCount(final String aString, final int aCount) {
-        final StringBuilder builder = new StringBuilder();
-        final String[] words = aString.split("\\s");
-        int count = 0;
-
-        for (final String word : words) {
-            count += word.length();
-
-            if (count < aCount) {
-                builder.append(word);
-
-                if ((count += 1) < aCount) {
-                    builder.append(' ');
-                } else {
-                    builder.append(EOL).append(Constants.DOUBLE_SPACE);
-                    count = 2;
-                }
-            } else {
-                builder.append(EOL).append(Constants.DOUBLE_SPACE).append(word);
-                count = word.length() + 2; // two spaces at start of line
-            }
-        }
-
-        return builder.toString();
+        return new WordWrapper(Math.max(1, aCount - 1), Constants.DOUBLE_SPACE).wrap(aString);
     }
 
     /**
@@ -394,26 +480,47 @@ public final class StringUtils {
      * @return A concatenation of the supplied map's string values
      */
     public static String toString(final Map<String, String[]> aMap) {
+        return toString(new StringBuilder(), aMap).toString();
+    }
+
+    /**
+     * Appends the string representation of a map that has string keys and string array values to a string builder,
+     * in the form produced by {@link #toString(Map)}. The builder's capacity is increased once, to fit the map.
+     *
+     * @param aBuilder The string builder to which to append the map
+     * @param aMap A map of string keys and string array values
+     * @return The supplied string builder
+     */
+    public static StringBuilder toString(final StringBuilder aBuilder, final Map<String, String[]> aMap) {
         final Set<Entry<String, String[]>> set = aMap.entrySet();
-        final StringBuilder buffer = new StringBuilder();
+        long length = set.size() - 1L;
+        boolean isFirst = true;
 
         for (final Entry<String, String[]> entry : set) {
-            final Object[] values = entry.getValue();
+            length += String.valueOf(entry.getKey()).length() + 1; // The key and its equals sign
 
-            buffer.append(entry.getKey()).append('=');
+            for (final String value : entry.getValue()) {
+                length += String.valueOf(value).length() + 2; // The value and its braces
+            }
+        }
+
+        ensureCapacity(aBuilder, length);
 
-            for (final Object value : values) {
-                buffer.append('{').append(value).append('}');
+        for (final Entry<String, String[]> entry : set) {
+            if (!isFirst) {
+                aBuilder.append('&');
             }
 
-            buffer.append('&');
-        }
+            aBuilder.append(entry.getKey()).append('=');
 
-        if (buffer.length() > 0 && buffer.charAt(buffer.length() - 1) == '&') {
-            buffer.deleteCharAt(buffer.length() - 1);
+            for (final String value : entry.getValue()) {
+                aBuilder.append('{').append(value).append('}');
+            }
+
+            isFirst = false;
         }
 
-        return buffer.toString();
+        return aBuilder;
     }
 
     /**
@@ -434,13 +541,44 @@ public final class StringUtils {
             return aObjArray[0].toString();
         }
 
-        final StringBuilder buffer = new StringBuilder();
+        return toString(new StringBuilder(), aObjArray, aPadChar).toString();
+    }
+
+    /**
+     * Appends the string representations of a series of objects, separated using the supplied 'padding' character, to
+     * a string builder. The objects are converted to strings before anything is appended, so the builder's capacity
+     * can be increased once, to fit them all.
+     *
+     * @param aBuilder The string builder to which to append the objects' string representations
+     * @param aObjArray An array of objects whose <code>toString()</code> representations should be concatenated
+     * @param aPadChar The character used to separate concatenated strings
+     * @return The supplied string builder
+     */
+    public static StringBuilder toString(final StringBuilder aBuilder, final Object[] aObjArray,
+            final char aPadChar) {
+        final String[] strings;
+        long length;
+
+        if (aObjArray == null || aObjArray.length == 0) {
+            return aBuilder;
+        }
+
+        strings = new String[aObjArray.length];
+        length = strings.length - 1L;
+
+        for (int index = 0; index < strings.length; index++) {
+            strings[index] = String.valueOf(aObjArray[index]);
+            length += strings[index].length();
+        }
+
+        ensureCapacity(aBuilder, length);
+        aBuilder.append(strings[0]);
 
-        for (final Object obj : aObjArray) {
-            buffer.append(obj).append(aPadChar);
+        for (int index = 1; index < strings.length; index++) {
+            aBuilder.append(aPadChar).append(strings[index]);
         }
 
-        return buffer.deleteCharAt(buffer.length() - 1).toString();
+        return aBuilder;
     }
 
     /**
@@ -564,49 +702,41 @@ public final class StringUtils {
     }
 
     /**
-     * Checks a string for the number of brackets compared to the number of arguments and throws an exception if the two
-     * numbers aren't equal.
+     * Returns whether the supplied character is white space, as defined by the regular expression <code>\s</code>.
      *
-     * @param aMessage A message string
-     * @param aDetails An array of additional string details
-     * @return The starting index position if the counts matched
-     * @throws IndexOutOfBoundsException If the number of details doesn't match the number of slots
+     * @param aChar A character
+     * @return True if the character is white space; else, false
      */
-    private static int checkBracketCount(final String aMessage, final String... aDetails) {
-        int index = 0;
-        int count = 0;
+    private static boolean isWhiteSpace(final char aChar) {
+        return aChar == ' ' || (aChar >= '\t' && aChar <= '\r');
+    }
 
-        while ((index = aMessage.indexOf("{}", index)) != -1) {
-            index += 1;
-            count += 1;
-        }
+    /**
+     * Returns whether the character at the supplied index starts a run of white space that normalizing would change.
+     *
+     * @param aString A string
+     * @param aIndex An index in the string
+     * @return True if normalizing would change the string at the supplied index; else, false
+     */
+    private static boolean isRunStart(final String aString, final int aIndex) {
+        final char character = aString.charAt(aIndex);
 
-        if (count != aDetails.length) {
-            throw new IndexOutOfBoundsException(
-                    LOGGER.getI18n(MessageCodes.UTIL_043, count, aDetails.length, StringUtils.toString(aDetails, '|')));
+        if (character == ' ') {
+            return aIndex + 1 < aString.length() && isWhiteSpace(aString.charAt(aIndex + 1));
         }
 
-        return 0;
+        return isWhiteSpace(character);
     }
 
     /**
-     * Reads the contents of a file into a byte array.
+     * Makes sure a string builder has room for the supplied number of additional characters.
      *
-     * @param aFile The file from which to read
-     * @return The bytes read from the file
-     * @throws IOException If the supplied file could not be read in its entirety
+     * @param aBuilder A string builder
+     * @param aLength The number of characters that will be appended to the builder
      */
-    @SuppressWarnings(PMD.AVOID_FILE_STREAM)
-    private static byte[] readBytes(final File aFile) throws IOException {
-        try (FileInputStream fileStream = new FileInputStream(aFile)) {
-            final ByteBuffer buf = ByteBuffer.allocate((int) aFile.length());
-            final int read = fileStream.getChannel().read(buf);
-
-            if (read != aFile.length()) {
-                throw new IOException(LOGGER.getI18n(MessageCodes.UTIL_044, aFile));
-            }
-
-            return buf.array();
+    private static void ensureCapacity(final StringBuilder aBuilder, final long aLength) {
+        if (aLength > 0) {
+            aBuilder.ensureCapacity((int) Math.min(aBuilder.length() + aLength, MAX_CAPACITY));
         }
     }
 }
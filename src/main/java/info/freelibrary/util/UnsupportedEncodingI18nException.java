@@ -98,4 +98,47 @@ public class UnsupportedEncodingI18nException extends I18nRuntimeException {
         super(aCause, aBundleName, aMessageKey, aVarargs);
     }
 
+    /**
+     * Creates a new <code>UnsupportedEncodingI18nException</code> whose message is formatted when it's first requested.
+     *
+     * @param aLightweight Whether the exception should skip capturing a stack trace
+     * @param aCause The root cause of the exception, or null if there isn't one
+     * @param aLocale The locale to use when formatting the message, or null for the default locale
+     * @param aBundleName The name of a message bundle
+     * @param aMessageKey A message (or message key) for the exception message
+     * @param aVarargs Additional details about the exception
+     */
+    protected UnsupportedEncodingI18nException(final boolean aLightweight, final Throwable aCause, final Locale aLocale,
+            final String aBundleName, final String aMessageKey, final Object... aVarargs) {
+        super(aLightweight, aCause, aLocale, aBundleName, aMessageKey, aVarargs);
+    }
+
+    /**
+     * Creates a lightweight <code>UnsupportedEncodingI18nException</code>, which doesn't capture a stack trace and
+     * doesn't format its message until it's first requested.
+     *
+     * @param aBundleName The name of a message bundle
+     * @param aMessageKey A message (or message key) for the exception message
+     * @param aVarargs Additional details about the exception
+     * @return A lightweight exception
+     */
+    public static UnsupportedEncodingI18nException lightweight(final String aBundleName, final String aMessageKey,
+            final Object... aVarargs) {
+        return new UnsupportedEncodingI18nException(true, null, null, aBundleName, aMessageKey, aVarargs);
+    }
+
+    /**
+     * Creates a lightweight <code>UnsupportedEncodingI18nException</code> from the supplied root cause. The exception
+     * doesn't capture a stack trace and doesn't format its message until it's first requested.
+     *
+     * @param aCause The root cause of the exception
+     * @param aBundleName The name of a message bundle
+     * @param aMessageKey A message (or message key) for the exception message
+     * @param aVarargs Additional details about the exception
+     * @return A lightweight exception
+     */
+    public static UnsupportedEncodingI18nException lightweight(final Throwable aCause, final String aBundleName,
+            final String aMessageKey, final Object... aVarargs) {
+        return new UnsupportedEncodingI18nException(true, aCause, null, aBundleName, aMessageKey, aVarargs);
+    }
 }
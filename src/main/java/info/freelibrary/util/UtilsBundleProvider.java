@@ -0,0 +1,15 @@
+
+package info.freelibrary.util;
+
+import java.util.Set;
+
+/**
+ * Provides the name of this library's own resource bundle for preloading.
+ */
+public final class UtilsBundleProvider implements I18nBundleProvider {
+
+    @Override
+    public Set<String> getBundleNames() {
+        return Set.of(MessageCodes.BUNDLE);
+    }
+}
@@ -0,0 +1,326 @@
+
+package info.freelibrary.util;
+
+import static info.freelibrary.util.Constants.EOL;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.text.BreakIterator;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Wraps text into lines of no more than a supplied width, breaking lines where the Unicode line breaking rules of a
+ * locale allow (so text in languages that don't separate words with spaces can be wrapped, too). Text is read and
+ * written incrementally, so only about a line's worth of it is held in memory at a time. Line breaks in the text are
+ * kept; the first line of each paragraph gets the first-line indentation, and the lines it's wrapped onto get the
+ * indentation. Widths are counted in code points. A word that's wider than a line is put on a line by itself.
+ * <p>
+ * A word wrapper is immutable and thread-safe.
+ * </p>
+ */
+public final class WordWrapper {
+
+    /** The logger used by word wrappers. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(WordWrapper.class, MessageCodes.BUNDLE);
+
+    /** The number of characters read at a time. */
+    private static final int BUFFER_SIZE = 8192;
+
+    /** The next line character, which isn't Java white space but is a line terminator. */
+    private static final char NEL = '\u0085';
+
+    /** The Unicode line separator character. */
+    private static final char LINE_SEPARATOR = '\u2028';
+
+    /** The Unicode paragraph separator character. */
+    private static final char PARAGRAPH_SEPARATOR = '\u2029';
+
+    /** The maximum width of a line. */
+    private final int myWidth;
+
+    /** The indentation of the first line of each paragraph. */
+    private final String myFirstIndent;
+
+    /** The indentation of the lines onto which a paragraph is wrapped. */
+    private final String myIndent;
+
+    /** The locale whose line breaking rules are used. */
+    private final Locale myLocale;
+
+    /**
+     * Creates a word wrapper that doesn't indent lines.
+     *
+     * @param aWidth The maximum width of a line
+     * @throws IllegalArgumentException If the width isn't greater than zero
+     */
+    public WordWrapper(final int aWidth) {
+        this(aWidth, Constants.EMPTY, Constants.EMPTY, Locale.getDefault());
+    }
+
+    /**
+     * Creates a word wrapper that indents the lines onto which a paragraph is wrapped, but not a paragraph's first
+     * line.
+     *
+     * @param aWidth The maximum width of a line, including its indentation
+     * @param aIndent The indentation of the lines onto which a paragraph is wrapped
+     * @throws IllegalArgumentException If the width isn't greater than zero
+     */
+    public WordWrapper(final int aWidth, final String aIndent) {
+        this(aWidth, Constants.EMPTY, aIndent, Locale.getDefault());
+    }
+
+    /**
+     * Creates a word wrapper.
+     *
+     * @param aWidth The maximum width of a line, including its indentation
+     * @param aFirstIndent The indentation of the first line of each paragraph
+     * @param aIndent The indentation of the lines onto which a paragraph is wrapped
+     * @param aLocale The locale whose line breaking rules are used
+     * @throws IllegalArgumentException If the width isn't greater than zero
+     */
+    public WordWrapper(final int aWidth, final String aFirstIndent, final String aIndent, final Locale aLocale) {
+        if (aWidth < 1) {
+            throw new IllegalArgumentException(LOGGER.getI18n(MessageCodes.UTIL_091, aWidth));
+        }
+
+        myWidth = aWidth;
+        myFirstIndent = Objects.requireNonNull(aFirstIndent);
+        myIndent = Objects.requireNonNull(aIndent);
+        myLocale = Objects.requireNonNull(aLocale);
+    }
+
+    /**
+     * Wraps the text from the supplied reader, writing it to the supplied output. The reader isn't closed.
+     *
+     * @param aReader A reader of the text to wrap
+     * @param aOutput An output to which to write the wrapped text
+     * @throws IOException If the text can't be read or the wrapped text can't be written
+     */
+    public void wrap(final Reader aReader, final Appendable aOutput) throws IOException {
+        final Layout layout = new Layout(aOutput);
+        final char[] buffer = new char[BUFFER_SIZE];
+        int count;
+
+        while ((count = aReader.read(buffer)) != -1) {
+            layout.append(CharBuffer.wrap(buffer, 0, count));
+        }
+
+        layout.finish();
+    }
+
+    /**
+     * Wraps the supplied text, writing it to the supplied output.
+     *
+     * @param aText The text to wrap
+     * @param aOutput An output to which to write the wrapped text
+     * @throws IOException If the wrapped text can't be written
+     */
+    public void wrap(final CharSequence aText, final Appendable aOutput) throws IOException {
+        final Layout layout = new Layout(aOutput);
+        final int length = aText.length();
+
+        for (int start = 0; start < length; start += BUFFER_SIZE) {
+            layout.append(aText.subSequence(start, Math.min(length, start + BUFFER_SIZE)));
+        }
+
+        layout.finish();
+    }
+
+    /**
+     * Wraps the supplied text.
+     *
+     * @param aText The text to wrap
+     * @return The wrapped text
+     */
+    public String wrap(final CharSequence aText) {
+        final StringBuilder builder = new StringBuilder(aText.length() + aText.length() / myWidth * EOL.length());
+
+        try {
+            wrap(aText, builder);
+        } catch (final IOException details) {
+            throw new UncheckedIOException(details); // A string builder doesn't throw I/O exceptions
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Returns whether the supplied character is a line terminator.
+     *
+     * @param aChar A character
+     * @return True if the character is a line terminator; else, false
+     */
+    private static boolean isLineTerminator(final char aChar) {
+        return aChar == '\n' || aChar == '\r' || aChar == NEL || aChar == LINE_SEPARATOR ||
+                aChar == PARAGRAPH_SEPARATOR;
+    }
+
+    /**
+     * The state of the wrapping of one text.
+     */
+    private final class Layout {
+
+        /** The output to which the wrapped text is written. */
+        private final Appendable myOutput;
+
+        /** The line breaking rules of the wrapper's locale. */
+        private final BreakIterator myBreaks = BreakIterator.getLineInstance(myLocale);
+
+        /** The text that's been read but not yet laid out. */
+        private final StringBuilder myPending = new StringBuilder();
+
+        /** The white space that followed the last word written, which separates it from the next word. */
+        private String mySeparator = Constants.EMPTY;
+
+        /** The width of the current line. */
+        private int myColumn;
+
+        /** Whether the current line has a word on it. */
+        private boolean myLineStarted;
+
+        /** Whether the last word written is continued by the next one. */
+        private boolean myWordContinues;
+
+        /** Whether the current line is the first line of a paragraph. */
+        private boolean myParagraphStart = true;
+
+        /**
+         * Creates the state of the wrapping of a text.
+         *
+         * @param aOutput The output to which the wrapped text is written
+         */
+        private Layout(final Appendable aOutput) {
+            myOutput = aOutput;
+        }
+
+        /**
+         * Appends more of the text, laying out everything but its last segment, which may continue in the next chars.
+         *
+         * @param aChars More of the text
+         * @throws IOException If the wrapped text can't be written
+         */
+        private void append(final CharSequence aChars) throws IOException {
+            myPending.append(aChars);
+            myPending.delete(0, layOut(false));
+
+            // A segment that's grown past the buffer is a very long word, which is written and then continued
+            if (myPending.length() > BUFFER_SIZE) {
+                final String text = myPending.toString();
+
+                addSegment(text, 0, text.length());
+                myWordContinues = !Character.isWhitespace(text.charAt(text.length() - 1));
+                myPending.setLength(0);
+            }
+        }
+
+        /**
+         * Lays out the rest of the text.
+         *
+         * @throws IOException If the wrapped text can't be written
+         */
+        private void finish() throws IOException {
+            layOut(true);
+            myPending.setLength(0);
+        }
+
+        /**
+         * Lays out the segments of the pending text, each of which is a word followed by any white space.
+         *
+         * @param aLast Whether the pending text's last segment is complete
+         * @return The index of the first character that wasn't laid out
+         * @throws IOException If the wrapped text can't be written
+         */
+        private int layOut(final boolean aLast) throws IOException {
+            final String text = myPending.toString();
+            int start;
+
+            myBreaks.setText(text);
+            start = myBreaks.first();
+
+            for (int end = myBreaks.next(); end != BreakIterator.DONE; start = end, end = myBreaks.next()) {
+                if (end == text.length() && !aLast) {
+                    break;
+                }
+
+                addSegment(text, start, end);
+            }
+
+            return start;
+        }
+
+        /**
+         * Lays out a segment of the text.
+         *
+         * @param aText The pending text
+         * @param aStart The index of the start of the segment
+         * @param aEnd The index of the end of the segment
+         * @throws IOException If the wrapped text can't be written
+         */
+        private void addSegment(final String aText, final int aStart, final int aEnd) throws IOException {
+            boolean isLineEnd = false;
+            int wordEnd = aEnd;
+
+            while (wordEnd > aStart && (Character.isWhitespace(aText.charAt(wordEnd - 1)) ||
+                    aText.charAt(wordEnd - 1) == NEL)) {
+                isLineEnd |= isLineTerminator(aText.charAt(--wordEnd));
+            }
+
+            if (wordEnd > aStart) {
+                addWord(aText, aStart, wordEnd);
+            }
+
+            myWordContinues = false;
+
+            if (isLineEnd) {
+                myOutput.append(EOL);
+                mySeparator = Constants.EMPTY;
+                myColumn = 0;
+                myLineStarted = false;
+                myParagraphStart = true;
+            } else {
+                mySeparator = aText.substring(wordEnd, aEnd);
+            }
+        }
+
+        /**
+         * Writes a word, on the current line if it fits there or else on a new line.
+         *
+         * @param aText The pending text
+         * @param aStart The index of the start of the word
+         * @param aEnd The index of the end of the word
+         * @throws IOException If the wrapped text can't be written
+         */
+        private void addWord(final String aText, final int aStart, final int aEnd) throws IOException {
+            final int width = aText.codePointCount(aStart, aEnd);
+            final String indent;
+
+            if (myWordContinues) {
+                myOutput.append(aText, aStart, aEnd);
+                myColumn += width;
+                return;
+            }
+
+            if (myLineStarted) {
+                final int separatorWidth = mySeparator.codePointCount(0, mySeparator.length());
+
+                if (myColumn + separatorWidth + width <= myWidth) {
+                    myOutput.append(mySeparator).append(aText, aStart, aEnd);
+                    myColumn += separatorWidth + width;
+                    return;
+                }
+
+                myOutput.append(EOL);
+                myParagraphStart = false;
+            }
+
+            // White space at the start of a paragraph is kept after the paragraph's indentation
+            indent = myParagraphStart ? myFirstIndent + mySeparator : myIndent;
+            myOutput.append(indent).append(aText, aStart, aEnd);
+            myColumn = indent.codePointCount(0, indent.length()) + width;
+            myLineStarted = true;
+        }
+    }
+}
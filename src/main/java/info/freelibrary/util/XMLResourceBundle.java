@@ -18,7 +18,20 @@ public class XMLResourceBundle extends AbstractResourceBundle {
      * @throws IOException If there is trouble reading from the XML file
      */
     XMLResourceBundle(final InputStream aInStream) throws IOException {
-        super(new Properties());
-        myProperties.loadFromXML(aInStream);
+        super(load(aInStream));
+    }
+
+    /**
+     * Loads the bundle's properties from the supplied XML {@link InputStream}.
+     *
+     * @param aInStream An XML {@link InputStream}
+     * @return The bundle's properties
+     * @throws IOException If there is trouble reading from the XML file
+     */
+    static Properties load(final InputStream aInStream) throws IOException {
+        final Properties properties = new Properties();
+
+        properties.loadFromXML(aInStream);
+        return properties;
     }
 }
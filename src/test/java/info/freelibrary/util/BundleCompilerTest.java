@@ -0,0 +1,98 @@
+package info.freelibrary.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of BundleCompiler.
+ */
+public class BundleCompilerTest {
+
+    /** An XML bundle used in testing. */
+    private static final Path XML_BUNDLE = Path.of("src/main/resources/freelib-utils_messages.xml");
+
+    /** A properties bundle used in testing. */
+    private static final Path PROPERTIES_BUNDLE = Path.of("src/test/resources/test_messages.properties");
+
+    /** A binary bundle used in testing. */
+    private Path myBundle;
+
+    /**
+     * Sets up the test.
+     *
+     * @throws IOException If the test's binary bundle can't be created
+     */
+    @Before
+    public void setUp() throws IOException {
+        myBundle = Files.createTempFile(BundleCompilerTest.class.getSimpleName(), ".bin");
+    }
+
+    /**
+     * Cleans up after the test.
+     *
+     * @throws IOException If the test's binary bundle can't be deleted
+     */
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(myBundle);
+    }
+
+    /**
+     * Tests compiling a properties bundle.
+     *
+     * @throws IOException If the bundle can't be compiled or read
+     */
+    @Test
+    public void testCompileProperties() throws IOException {
+        final BinaryResourceBundle bundle;
+
+        BundleCompiler.compile(PROPERTIES_BUNDLE, myBundle);
+        bundle = new BinaryResourceBundle(ByteBuffer.wrap(Files.readAllBytes(myBundle)));
+
+        assertEquals(1, bundle.countKeys());
+        assertEquals("two", bundle.getString("one"));
+    }
+
+    /**
+     * Tests compiling an XML bundle.
+     *
+     * @throws IOException If the bundle can't be compiled or read
+     */
+    @Test
+    public void testCompileXML() throws IOException {
+        final BinaryResourceBundle bundle;
+
+        BundleCompiler.compile(XML_BUNDLE, myBundle);
+        bundle = new BinaryResourceBundle(ByteBuffer.wrap(Files.readAllBytes(myBundle)));
+
+        try (InputStream inStream = Files.newInputStream(XML_BUNDLE)) {
+            assertEquals(new XMLResourceBundle(inStream).countKeys(), bundle.countKeys());
+        }
+
+        assertEquals("Suppressed {} similar messages: {}", bundle.getString(MessageCodes.UTIL_082));
+    }
+
+    /**
+     * Tests reading a truncated binary bundle.
+     *
+     * @throws IOException If the bundle can't be compiled or read
+     */
+    @Test(expected = IOException.class)
+    public void testReadTruncated() throws IOException {
+        final byte[] bytes;
+
+        BundleCompiler.compile(PROPERTIES_BUNDLE, myBundle);
+        bytes = Files.readAllBytes(myBundle);
+
+        new BinaryResourceBundle(ByteBuffer.wrap(bytes, 0, bytes.length - 1).slice());
+    }
+}
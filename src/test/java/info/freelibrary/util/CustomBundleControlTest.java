@@ -5,7 +5,14 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Locale;
+import java.util.ResourceBundle;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -30,6 +37,21 @@ public class CustomBundleControlTest {
      */
     private static final String XML_FORMAT = "xml";
 
+    /**
+     * The name of a bundle that's watched for changes.
+     */
+    private static final String WATCHED_BUNDLE = "watched_messages";
+
+    /**
+     * A key in the watched bundle.
+     */
+    private static final String KEY = "key";
+
+    /**
+     * How long to wait for a watched bundle to be reloaded, in milliseconds. Some platforms poll for file changes.
+     */
+    private static final long RELOAD_TIMEOUT = 30_000L;
+
     /**
      * A custom bundle control.
      */
@@ -48,7 +70,7 @@ public class CustomBundleControlTest {
      */
     @Test
     public void testGetFormatsString() {
-        assertEquals(2, myControl.getFormats("yada").size());
+        assertEquals(3, myControl.getFormats("yada").size());
 
         try {
             // If we request a null though we should get an exception
@@ -133,4 +155,96 @@ public class CustomBundleControlTest {
         }
     }
 
+    /**
+     * Tests getting a bundle's time to live.
+     */
+    @Test
+    public void testGetTimeToLive() {
+        assertEquals(CustomBundleControl.TTL_NO_EXPIRATION_CONTROL, myControl.getTimeToLive(BUNDLE_NAME, Locale.US));
+        assertEquals(1000L, new CustomBundleControl(1000L, false).getTimeToLive(BUNDLE_NAME, Locale.US));
+    }
+
+    /**
+     * Tests that a compiled bundle is used until its source is modified after it was compiled.
+     *
+     * @throws IOException If the test's bundle files can't be written
+     */
+    @Test
+    public void testStaleCompiledBundle() throws IOException {
+        final Path dir = Files.createTempDirectory(CustomBundleControlTest.class.getSimpleName());
+        final Path source = dir.resolve(WATCHED_BUNDLE + ".properties");
+        final Path compiled = dir.resolve(WATCHED_BUNDLE + ".bin");
+        final CustomBundleControl control = new CustomBundleControl(CustomBundleControl.TTL_DONT_CACHE, false);
+
+        Files.writeString(source, "key=one");
+        BundleCompiler.compile(source, compiled);
+        Files.setLastModifiedTime(source, FileTime.fromMillis(System.currentTimeMillis() - 60_000L));
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { dir.toUri().toURL() }, null)) {
+            final ResourceBundle bundle = ResourceBundle.getBundle(WATCHED_BUNDLE, Locale.ROOT, classLoader, control);
+
+            assertTrue(bundle instanceof BinaryResourceBundle);
+            assertEquals("one", bundle.getString(KEY));
+
+            Files.writeString(source, "key=two");
+            assertEquals("two", ResourceBundle.getBundle(WATCHED_BUNDLE, Locale.ROOT, classLoader, control)
+                    .getString(KEY));
+        }
+
+        Files.delete(compiled);
+        Files.delete(source);
+        Files.delete(dir);
+    }
+
+    /**
+     * Tests reloading a watched bundle when its file changes, and keeping its contents when the file is emptied.
+     *
+     * @throws IOException If the test's bundle file can't be written
+     * @throws InterruptedException If the test is interrupted while waiting for the bundle to be reloaded
+     */
+    @Test
+    public void testWatchedBundleReload() throws IOException, InterruptedException {
+        final Path dir = Files.createTempDirectory(CustomBundleControlTest.class.getSimpleName());
+        final Path file = dir.resolve(WATCHED_BUNDLE + ".properties");
+        final ResourceBundle bundle;
+        final long deadline;
+
+        Files.writeString(file, "key=one");
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { dir.toUri().toURL() }, null)) {
+            bundle = ResourceBundle.getBundle(WATCHED_BUNDLE, Locale.ROOT, classLoader,
+                    new CustomBundleControl(CustomBundleControl.TTL_NO_EXPIRATION_CONTROL, true));
+        }
+
+        assertEquals("one", bundle.getString(KEY));
+
+        // A truncated file is rejected, so the bundle keeps its messages
+        Files.writeString(file, "");
+        Thread.sleep(1000);
+        assertEquals("one", bundle.getString(KEY));
+
+        Files.writeString(file, "key=two");
+        deadline = System.currentTimeMillis() + RELOAD_TIMEOUT;
+
+        while (!hasValue(bundle, "two") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertEquals("two", bundle.getString(KEY));
+        assertEquals("two", ((I18nResourceBundle) bundle).getTemplate(KEY).toString());
+
+        Files.delete(file);
+        Files.delete(dir);
+    }
+
+    /**
+     * Returns whether the supplied bundle has the supplied value for the test key.
+     *
+     * @param aBundle A resource bundle
+     * @param aValue An expected value
+     * @return True if the bundle has the key and its value is the expected one; else, false
+     */
+    private static boolean hasValue(final ResourceBundle aBundle, final String aValue) {
+        return aBundle.containsKey(KEY) && aValue.equals(aBundle.getString(KEY));
+    }
 }
@@ -0,0 +1,51 @@
+package info.freelibrary.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+/**
+ * Tests of EolRewriter.
+ */
+public class EolRewriterTest {
+
+    /** A regular expression that matches the line endings the rewriter handles. */
+    private static final String EOL_RE = "(\\n|\\r|\\r\\n)";
+
+    /** A test message with mixed line endings. */
+    private static final String MIXED = "one\ntwo\rthree\r\nfour\n";
+
+    /**
+     * Tests that a string without line endings is returned as is.
+     */
+    @Test
+    public void testRewriteWithoutEOL() {
+        final String message = "one two three";
+        assertSame(message, EolRewriter.rewrite(message, Constants.SPACE));
+    }
+
+    /**
+     * Tests rewriting line endings as spaces.
+     */
+    @Test
+    public void testRewriteToSpace() {
+        assertEquals(MIXED.replaceAll(EOL_RE, Constants.SPACE), EolRewriter.rewrite(MIXED, Constants.SPACE));
+    }
+
+    /**
+     * Tests rewriting line endings as carriage return and line feeds.
+     */
+    @Test
+    public void testRewriteToCRLF() {
+        assertEquals(MIXED.replaceAll(EOL_RE, "\r\n"), EolRewriter.rewrite(MIXED, "\r\n"));
+    }
+
+    /**
+     * Tests rewriting an empty string.
+     */
+    @Test
+    public void testRewriteEmpty() {
+        assertEquals(Constants.EMPTY, EolRewriter.rewrite(Constants.EMPTY, Constants.LF));
+    }
+}
@@ -0,0 +1,80 @@
+package info.freelibrary.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.MissingResourceException;
+
+import org.junit.Test;
+
+/**
+ * Tests of I18nBundles.
+ */
+public class I18nBundlesTest {
+
+    /**
+     * Tests preloading a bundle for the default locale.
+     */
+    @Test
+    public void testPreload() {
+        assertEquals(1, I18nBundles.preload(MessageCodes.BUNDLE));
+    }
+
+    /**
+     * Tests preloading bundles for several locales.
+     */
+    @Test
+    public void testPreloadLocales() {
+        assertEquals(2, I18nBundles.preload(List.of(MessageCodes.BUNDLE), List.of(Locale.US, Locale.FRANCE)));
+    }
+
+    /**
+     * Tests preloading a bundle that doesn't exist.
+     */
+    @Test(expected = MissingResourceException.class)
+    public void testPreloadMissing() {
+        I18nBundles.preload("missing_messages");
+    }
+
+    /**
+     * Tests that a bundle that's preloaded under an upper case name is found by a lower case lookup.
+     */
+    @Test
+    public void testPreloadNormalizesName() {
+        I18nBundles.clearCache();
+        I18nBundles.preload(MessageCodes.BUNDLE.toUpperCase(Locale.ROOT));
+        new I18nObject(MessageCodes.BUNDLE);
+
+        assertEquals(1, I18nBundles.getCacheMetrics().getMissCount());
+        assertEquals(1, I18nBundles.getCacheMetrics().getHitCount());
+    }
+
+    /**
+     * Tests preloading the bundles that are found on the class path.
+     */
+    @Test
+    public void testPreloadDiscovered() {
+        assertTrue(I18nBundles.preloadDiscovered(Locale.US) >= 1);
+    }
+
+    /**
+     * Tests that I18n exceptions share their bundles through the bundle cache.
+     */
+    @Test
+    public void testCacheStatistics() {
+        final String message = new I18nException(MessageCodes.BUNDLE, MessageCodes.UTIL_067, "one").getMessage();
+
+        // Both exception classes have been loaded (along with their loggers) before the cache is cleared
+        new I18nRuntimeException(MessageCodes.BUNDLE, MessageCodes.UTIL_067, "one");
+        I18nBundles.clearCache();
+
+        assertEquals(message, new I18nRuntimeException(MessageCodes.BUNDLE, MessageCodes.UTIL_067, "one").getMessage());
+        assertEquals(message, new I18nException(MessageCodes.BUNDLE, MessageCodes.UTIL_067, "one").getMessage());
+        assertEquals(1, I18nBundles.getCacheMetrics().getMissCount());
+        assertEquals(1, I18nBundles.getCacheMetrics().getHitCount());
+        assertEquals(0.5, I18nBundles.getCacheMetrics().getHitRatio(), 0);
+        assertEquals(1, I18nBundles.getCacheMetrics().getSize());
+    }
+}
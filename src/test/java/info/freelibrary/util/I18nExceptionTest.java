@@ -3,6 +3,7 @@ package info.freelibrary.util;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
 import java.io.File;
@@ -207,4 +208,52 @@ public class I18nExceptionTest {
         assertEquals(ONE, exception.getMessage());
     }
 
+    /**
+     * Test method for {@link I18nException#lightweight(Throwable, String, String, Object[])} .
+     */
+    @Test
+    public void testLightweightThrowableStringStringObjectArray() {
+        final Throwable cause = new RuntimeException();
+        final I18nException exception = I18nException.lightweight(cause, BUNDLE_NAME, VALUE_ONE, ONE);
+
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(cause, exception.getCause());
+        assertEquals(ONE, exception.getMessage());
+    }
+
+    /**
+     * Test method for {@link I18nException#getMessage(Locale)} .
+     */
+    @Test
+    public void testGetMessageLocale() {
+        final I18nException exception = new I18nExceptionWrapper(BUNDLE_NAME, VALUE_TWO, ONE, 2);
+
+        assertEquals(ONE_AND_2, exception.getMessage());
+        assertSame(exception.getMessage(), exception.getMessage(Locale.US));
+        assertEquals("one et 2", exception.getMessage(Locale.FRENCH));
+    }
+
+    /**
+     * Test that a message whose bundle can't be found falls back to its key and details.
+     */
+    @Test
+    public void testGetMessageMissingBundle() {
+        final I18nException exception = new I18nExceptionWrapper("missing_bundle", VALUE_TWO, ONE, 2);
+
+        assertEquals(VALUE_TWO + " [one, 2]", exception.getMessage());
+        assertSame(exception.getMessage(), exception.getMessage());
+    }
+
+    /**
+     * Test that changing a message's details after the exception is created doesn't change its message.
+     */
+    @Test
+    public void testGetMessageChangedDetails() {
+        final Object[] details = { ONE, 2 };
+        final I18nException exception = new I18nExceptionWrapper(BUNDLE_NAME, VALUE_TWO, details);
+
+        details[1] = 3;
+        assertEquals(ONE_AND_2, exception.getMessage());
+    }
+
 }
@@ -7,9 +7,17 @@ import static org.junit.Assert.fail;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
 import java.util.MissingResourceException;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.After;
 import org.junit.Before;
@@ -37,6 +45,9 @@ public class I18nObjectTest {
     /** A test key. */
     private static final String ONE = "one";
 
+    /** The number of threads used in concurrency tests. */
+    private static final int THREAD_COUNT = 32;
+
     /** A temporary directory used in testing. */
     private static final File TMP_DIR = new File(System.getProperty("java.io.tmpdir"));
 
@@ -64,6 +75,31 @@ public class I18nObjectTest {
         assertEquals(ONE, new I18nObjectWrapper().getI18n(TEST_ONE));
     }
 
+    /**
+     * Tests that the locale given to {@link I18nObject#I18nObject(String, Locale)} only lower cases the bundle name,
+     * and that the bundle is still loaded for the default locale.
+     */
+    @Test
+    public void testI18nObjectStringLocale() {
+        assertEquals(ONE, new I18nObject("Test_Freelib-Utils_Messages", Locale.FRENCH).getI18n(TEST_ONE));
+    }
+
+    /**
+     * Test method for {@link I18nObject#getI18n(String, String...)} with a template that has extra white space.
+     */
+    @Test
+    public void testGetI18nNormalizedTemplate() {
+        assertEquals("one and two", new I18nObjectWrapper().getI18n("test.spaces", ONE, "two"));
+    }
+
+    /**
+     * Test method for {@link I18nObject#getI18n(String, String...)} with details that have extra white space.
+     */
+    @Test
+    public void testGetI18nNormalizedDetails() {
+        assertEquals("one and two three", new I18nObjectWrapper().getI18n("test.spaces", ONE, "two\n   three"));
+    }
+
     /**
      * Test method for {@link I18nObject#getI18n(String, Exception)}.
      */
@@ -174,6 +210,18 @@ public class I18nObjectTest {
         assertEquals(ONE, i18nObj.getI18n(TEST_ONE));
     }
 
+    /**
+     * Tests that {@link I18nObject#hasI18nKey()} finds a key that's only in a parent bundle.
+     */
+    @Test
+    public void testHasI18nKeyInParent() {
+        Locale.setDefault(Locale.CANADA_FRENCH);
+
+        final I18nObjectWrapper i18nObj = new I18nObjectWrapper();
+        assertTrue(i18nObj.hasI18nKey("test.value.two"));
+        assertEquals("un et deux", i18nObj.getI18n("test.value.two", "un", "deux"));
+    }
+
     /**
      * Tests the use of an I18n properties file.
      */
@@ -181,4 +229,37 @@ public class I18nObjectTest {
     public void testPropertiesFile() {
         assertEquals(1, new I18nObjectWrapper("test_messages").countKeys());
     }
+
+    /**
+     * Tests getting the keys of an I18n properties file.
+     */
+    @Test
+    public void testGetKeys() {
+        assertEquals(List.of(ONE), Collections.list(new I18nObjectWrapper("test_messages").getKeys()));
+    }
+
+    /**
+     * Tests looking up a message from many threads at once.
+     *
+     * @throws InterruptedException If the test is interrupted while waiting for the lookups
+     * @throws ExecutionException If a lookup fails
+     */
+    @Test
+    public void testConcurrentGetI18n() throws InterruptedException, ExecutionException {
+        final I18nObjectWrapper i18nObj = new I18nObjectWrapper();
+        final ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        final List<Callable<String>> lookups = new ArrayList<>();
+
+        for (int index = 0; index < THREAD_COUNT * 100; index++) {
+            lookups.add(() -> i18nObj.getI18n(TEST_ONE));
+        }
+
+        try {
+            for (final Future<String> lookup : executor.invokeAll(lookups)) {
+                assertEquals(ONE, lookup.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
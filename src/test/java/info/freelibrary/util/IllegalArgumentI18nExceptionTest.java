@@ -72,4 +72,19 @@ public class IllegalArgumentI18nExceptionTest {
         }
     }
 
+    /**
+     * Tests creating a lightweight IllegalArgumentI18nException.
+     */
+    @Test
+    public final void testLightweight() {
+        try {
+            throw IllegalArgumentI18nException.lightweight(MessageCodes.BUNDLE, MessageCodes.UTIL_065,
+                    String.class.getName(), DETAIL);
+        } catch (final IllegalArgumentI18nException details) {
+            assertEquals(MESSAGE, details.getMessage());
+            assertEquals(0, details.getStackTrace().length);
+            assertNull(details.getCause());
+        }
+    }
+
 }
@@ -0,0 +1,137 @@
+package info.freelibrary.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.PrimitiveIterator;
+
+import org.junit.Test;
+
+/**
+ * Tests of IntRange.
+ */
+public class IntRangeTest {
+
+    /** A test multi-range. */
+    private static final String MULTI_RANGE = "1-5,9,20-30";
+
+    /**
+     * Tests parsing a multi-range.
+     */
+    @Test
+    public void testParse() {
+        final IntRange range = IntRange.parse(MULTI_RANGE);
+
+        assertEquals(17, range.size());
+        assertArrayEquals(new int[] { 1, 2, 3, 4, 5, 9, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30 }, range.toArray());
+    }
+
+    /**
+     * Tests parsing ranges with white space and negative numbers.
+     */
+    @Test
+    public void testParseNegative() {
+        assertArrayEquals(new int[] { -3, -2, -1, 7 }, IntRange.parse(" -3--1 , 7 ").toArray());
+    }
+
+    /**
+     * Tests parsing an inverted range.
+     */
+    @Test(expected = NumberFormatException.class)
+    public void testParseInverted() {
+        IntRange.parse("1-5,10-9");
+    }
+
+    /**
+     * Tests parsing a multi-range with an empty range.
+     */
+    @Test(expected = NumberFormatException.class)
+    public void testParseEmpty() {
+        IntRange.parse("1-5,,9");
+    }
+
+    /**
+     * Tests checking whether a multi-range contains values.
+     */
+    @Test
+    public void testContains() {
+        final IntRange range = IntRange.parse(MULTI_RANGE);
+
+        assertTrue(range.contains(1));
+        assertTrue(range.contains(9));
+        assertTrue(range.contains(30));
+        assertFalse(range.contains(6));
+        assertFalse(range.contains(31));
+    }
+
+    /**
+     * Tests streaming and iterating over a multi-range.
+     */
+    @Test
+    public void testStreamAndIterator() {
+        final IntRange range = IntRange.parse(MULTI_RANGE);
+        final PrimitiveIterator.OfInt iterator = range.iterator();
+        final int[] expected = range.stream().toArray();
+
+        for (final int value : expected) {
+            assertEquals(value, iterator.nextInt());
+        }
+
+        assertFalse(iterator.hasNext());
+        assertArrayEquals(range.toArray(), expected);
+    }
+
+    /**
+     * Tests a range that's too wide to put in an array.
+     */
+    @Test
+    public void testWideRange() {
+        final IntRange range = IntRange.of(Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+        assertEquals(1L << 32, range.size());
+        assertTrue(range.contains(0));
+        assertEquals(Integer.MIN_VALUE + 2, range.stream().skip(2).findFirst().getAsInt());
+    }
+
+    /**
+     * Tests putting a range that's too wide into an array.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testWideRangeToArray() {
+        IntRange.of(Integer.MIN_VALUE, Integer.MAX_VALUE).toArray();
+    }
+
+    /**
+     * Tests iterating over a range that ends at the largest integer.
+     */
+    @Test
+    public void testMaxValue() {
+        final PrimitiveIterator.OfInt iterator = IntRange.of(Integer.MAX_VALUE - 1, Integer.MAX_VALUE).iterator();
+
+        assertEquals(Integer.MAX_VALUE - 1, iterator.nextInt());
+        assertEquals(Integer.MAX_VALUE, iterator.nextInt());
+        assertFalse(iterator.hasNext());
+    }
+
+    /**
+     * Tests the string form of a multi-range.
+     */
+    @Test
+    public void testToString() {
+        assertEquals(MULTI_RANGE, IntRange.parse(" 1-5, 9-9 ,20-30").toString());
+    }
+
+    /**
+     * Tests equality of multi-ranges.
+     */
+    @Test
+    public void testEquals() {
+        final IntRange range = IntRange.parse(MULTI_RANGE);
+
+        assertEquals(range, IntRange.parse(range.toString()));
+        assertEquals(range.hashCode(), IntRange.parse(range.toString()).hashCode());
+        assertEquals(IntRange.of(2, 5), IntRange.parse("2-5"));
+    }
+}
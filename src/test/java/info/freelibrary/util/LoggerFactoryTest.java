@@ -0,0 +1,81 @@
+package info.freelibrary.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Locale;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests of LoggerFactory.
+ */
+public class LoggerFactoryTest {
+
+    /** A default locale. */
+    private static final Locale LOCALE = Locale.getDefault();
+
+    /**
+     * Cleans up the testing environment.
+     */
+    @After
+    public void afterTests() {
+        Locale.setDefault(LOCALE);
+    }
+
+    /**
+     * Tests that the same logger is returned for the same name and bundle.
+     */
+    @Test
+    public void testGetLoggerCached() {
+        final Logger logger = LoggerFactory.getLogger(LoggerFactoryTest.class, MessageCodes.BUNDLE);
+
+        assertSame(logger, LoggerFactory.getLogger(LoggerFactoryTest.class, MessageCodes.BUNDLE));
+        assertEquals(LoggerFactoryTest.class.getName(), logger.getName());
+    }
+
+    /**
+     * Tests that loggers with and without a bundle are cached separately.
+     */
+    @Test
+    public void testGetLoggerCachedByBundle() {
+        assertNotSame(LoggerFactory.getLogger(LoggerFactoryTest.class),
+                LoggerFactory.getLogger(LoggerFactoryTest.class, MessageCodes.BUNDLE));
+    }
+
+    /**
+     * Tests that a logger is replaced, keeping its settings, when the default locale changes.
+     */
+    @Test
+    public void testGetLoggerReplacedByLocale() {
+        final Logger logger;
+        final Logger replacement;
+
+        Locale.setDefault(Locale.US);
+        logger = LoggerFactory.getLogger(LoggerFactoryTest.class, MessageCodes.BUNDLE).setMetricsEnabled(true)
+                .setStructuredEnabled(true);
+        Locale.setDefault(Locale.FRANCE);
+        replacement = LoggerFactory.getLogger(LoggerFactoryTest.class, MessageCodes.BUNDLE);
+
+        assertNotSame(logger, replacement);
+        assertSame(replacement, LoggerFactory.getLogger(LoggerFactoryTest.class, MessageCodes.BUNDLE));
+        assertSame(logger.getMetrics(), replacement.getMetrics());
+        assertTrue(replacement.isStructuredEnabled());
+
+        replacement.setMetricsEnabled(false).setStructuredEnabled(false);
+    }
+
+    /**
+     * Tests that clearing the cache creates new loggers.
+     */
+    @Test
+    public void testClearCache() {
+        final Logger logger = LoggerFactory.getLogger(LoggerFactoryTest.class);
+
+        LoggerFactory.clearCache();
+        assertNotSame(logger, LoggerFactory.getLogger(LoggerFactoryTest.class));
+    }
+}
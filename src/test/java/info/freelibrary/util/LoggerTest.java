@@ -4,24 +4,30 @@ package info.freelibrary.util;
 import static info.freelibrary.util.Constants.EMPTY;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
+import org.slf4j.event.KeyValuePair;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.read.ListAppender;
 
 /**
  * Tests FreeLibrary Logger facade.
@@ -375,6 +381,183 @@ public class LoggerTest {
         assertEquals(TestConstants.MAIN_DEBUG + getLoggerInfo() + TestConstants.DASH_ONE_TWO, getLog());
     }
 
+    /**
+     * Tests debug message with a marker that converts line endings to spaces.
+     *
+     * @throws IOException If there is trouble capturing StdOut
+     */
+    @Test
+    public void testDebugEolToSpaceMarkerMessage() throws IOException {
+        final Marker eolToSpace = MarkerFactory.getMarker(LoggerMarker.EOL_TO_SPACE);
+
+        myLogger.debug(eolToSpace, TestConstants.THIS_AND_THAT, "one\ntwo", TestConstants.TWO);
+        assertEquals(TestConstants.MAIN_DEBUG + getLoggerInfo() + " - one two and two", getLog());
+    }
+
+    /**
+     * Tests debug message written by an asynchronous dispatcher.
+     *
+     * @throws IOException If there is trouble capturing StdOut
+     */
+    @Test
+    public void testAsyncDebugMessageKeyDetails() throws IOException {
+        final AsyncLogDispatcher dispatcher = new AsyncLogDispatcher(2, AsyncLogDispatcher.OverflowPolicy.BLOCK);
+
+        myLogger.setDispatcher(dispatcher).debug(TestConstants.TEST_VALUE_ONE, TestConstants.ONE);
+        dispatcher.close();
+
+        assertEquals("[freelib-async-logger] DEBUG " + getLoggerInfo() + TestConstants.DASH_ONE, getLog());
+    }
+
+    /**
+     * Tests that a debug message's supplied argument isn't computed when debug logging is disabled.
+     */
+    @Test
+    public void testDebugSupplierNotEvaluated() {
+        ((ch.qos.logback.classic.Logger) myLogger.getLoggerImpl()).setLevel(Level.INFO);
+        myLogger.debugLazy(TestConstants.TEST_VALUE_ONE, () -> {
+            throw new AssertionError();
+        });
+
+        assertEquals(EMPTY, getLog());
+    }
+
+    /**
+     * Tests debug message key with supplied arguments.
+     *
+     * @throws IOException If there is trouble capturing StdOut
+     */
+    @Test
+    public void testDebugMessageKeySuppliers() throws IOException {
+        myLogger.debugLazy(TestConstants.TEST_VALUE_TWO, () -> TestConstants.ONE, () -> TestConstants.TWO);
+        assertEquals(TestConstants.MAIN_DEBUG + getLoggerInfo() + TestConstants.DASH_ONE_TWO, getLog());
+    }
+
+    /**
+     * Tests debug message key logged with an event builder.
+     *
+     * @throws IOException If there is trouble capturing StdOut
+     */
+    @Test
+    public void testDebugEventBuilder() throws IOException {
+        myLogger.event(org.slf4j.event.Level.DEBUG).arg(TestConstants.ONE).arg(() -> TestConstants.TWO)
+                .log(TestConstants.TEST_VALUE_TWO);
+        assertEquals(TestConstants.MAIN_DEBUG + getLoggerInfo() + TestConstants.DASH_ONE_TWO, getLog());
+    }
+
+    /**
+     * Tests debug message key logged with an event builder that has both a cause and arguments.
+     *
+     * @throws IOException If there is trouble capturing StdOut
+     */
+    @Test
+    public void testDebugEventBuilderCause() throws IOException {
+        myLogger.event(org.slf4j.event.Level.DEBUG).cause(new IOException(TestConstants.BAD)).arg(TestConstants.ONE)
+                .arg(TestConstants.TWO).log(TestConstants.TEST_VALUE_TWO);
+        assertEquals(TestConstants.MAIN_DEBUG + getLoggerInfo() + TestConstants.DASH_ONE_TWO, getLog());
+        assertTrue(getStackTrace().startsWith(IOException.class.getName()));
+    }
+
+    /**
+     * Tests warn message logged with an event builder that has a marker, a cause, and arguments.
+     *
+     * @throws IOException If there is trouble capturing StdOut
+     */
+    @Test
+    public void testWarnEventBuilderMarkerCause() throws IOException {
+        final Marker notifyAdmin = MarkerFactory.getMarker(TestConstants.NOTIFY_ADMIN);
+
+        myLogger.event(org.slf4j.event.Level.WARN).marker(notifyAdmin).cause(new IOException(TestConstants.BAD))
+                .arg(TestConstants.ONE).arg(TestConstants.TWO).log(TestConstants.THIS_AND_THAT);
+        assertEquals(TestConstants.MAIN_WARN + getLoggerInfo() + TestConstants.DASH_ONE_TWO, getLog());
+        assertTrue(getStackTrace().startsWith(IOException.class.getName()));
+    }
+
+    /**
+     * Tests that an event builder logs an argument that implements {@link Supplier} as it is, unless it was added as
+     * a supplier.
+     *
+     * @throws IOException If there is trouble capturing StdOut
+     */
+    @Test
+    public void testDebugEventBuilderSupplierObject() throws IOException {
+        final Supplier<String> supplier = new Supplier<>() {
+
+            @Override
+            public String get() {
+                return TestConstants.TWO;
+            }
+
+            @Override
+            public String toString() {
+                return TestConstants.ONE;
+            }
+        };
+
+        myLogger.event(org.slf4j.event.Level.DEBUG).arg((Object) supplier).log(TestConstants.TEST_VALUE_ONE);
+        assertEquals(TestConstants.MAIN_DEBUG + getLoggerInfo() + TestConstants.DASH_ONE, getLog());
+    }
+
+    /**
+     * Tests debug message key with a marker and supplied arguments.
+     *
+     * @throws IOException If there is trouble capturing StdOut
+     */
+    @Test
+    public void testDebugMarkerMessageKeySuppliers() throws IOException {
+        final Marker notifyAdmin = MarkerFactory.getMarker(TestConstants.NOTIFY_ADMIN);
+
+        myLogger.debugLazy(notifyAdmin, TestConstants.TEST_VALUE_TWO, () -> TestConstants.ONE,
+                () -> TestConstants.TWO);
+        assertEquals(TestConstants.MAIN_DEBUG + getLoggerInfo() + TestConstants.DASH_ONE_TWO, getLog());
+    }
+
+    /**
+     * Tests that null details are logged as null values, as they were before the lazy overloads were added.
+     *
+     * @throws IOException If there is trouble capturing StdOut
+     */
+    @Test
+    public void testDebugNullDetails() throws IOException {
+        myLogger.debug(TestConstants.THIS_AND_THAT, null, null);
+        assertEquals(TestConstants.MAIN_DEBUG + getLoggerInfo() + " - null and null", getLog());
+    }
+
+    /**
+     * Tests that a detail that implements {@link Supplier} is logged as it is, rather than being evaluated.
+     *
+     * @throws IOException If there is trouble capturing StdOut
+     */
+    @Test
+    public void testDebugSupplierDetail() throws IOException {
+        final Supplier<String> supplier = () -> TestConstants.TWO;
+
+        myLogger.debug(TestConstants.TEST_VALUE_ONE, supplier);
+        assertEquals(TestConstants.MAIN_DEBUG + getLoggerInfo() + " - " + supplier, getLog());
+    }
+
+    /**
+     * Tests counting debug messages and message keys.
+     */
+    @Test
+    public void testDebugMetrics() {
+        final LoggerMetrics metrics = myLogger.setMetricsEnabled(true).getMetrics();
+
+        myLogger.debug(TestConstants.ASDF);
+        myLogger.debug(TestConstants.TEST_VALUE_TWO, TestConstants.ONE, TestConstants.TWO);
+        myLogger.debugLazy(TestConstants.TEST_VALUE_TWO, () -> TestConstants.ONE, () -> TestConstants.TWO);
+
+        assertEquals(3, metrics.getDebugCount());
+        assertEquals(0, metrics.getErrorCount());
+        assertEquals(Long.valueOf(2), metrics.getKeyCounts().get(TestConstants.TEST_VALUE_TWO));
+        assertFalse(metrics.getKeyCounts().containsKey(TestConstants.ASDF));
+
+        metrics.reset();
+        assertEquals(0, metrics.getDebugCount());
+        assertTrue(metrics.getKeyCounts().isEmpty());
+        assertNull(myLogger.setMetricsEnabled(false).getMetrics());
+    }
+
     // End of debug tests
 
     /**
@@ -788,6 +971,61 @@ public class LoggerTest {
         assertEquals(TestConstants.MAIN_ERROR + getLoggerInfo() + TestConstants.DASH_ONE_TWO, getLog());
     }
 
+    /**
+     * Tests suppressing a flood of identical error messages.
+     *
+     * @throws InterruptedException If the test is interrupted while waiting for the rate limiter to refill
+     */
+    @Test
+    public void testErrorRateLimited() throws InterruptedException {
+        final LogRateLimiter rateLimiter = new LogRateLimiter(1, Duration.ofMillis(50));
+        final String[] log;
+
+        myLogger.setRateLimiter(rateLimiter);
+
+        for (int index = 0; index < 3; index++) {
+            myLogger.error(TestConstants.ASDF);
+        }
+
+        assertEquals(2, rateLimiter.getSuppressedCount());
+
+        Thread.sleep(100);
+        myLogger.error(TestConstants.ASDF);
+        log = myLogStream.toString(StandardCharsets.UTF_8).split(EOL_REGEXP);
+
+        assertEquals(3, log.length);
+        assertTrue(log[1].endsWith("Suppressed 2 similar messages: asdf"));
+        assertEquals(TestConstants.MAIN_ERROR + getLoggerInfo() + TestConstants.DASH_ASDF,
+                log[2].replaceAll(":[0-9]+", TEST_LINE_NUM));
+    }
+
+    /**
+     * Tests that the summary of suppressed error messages is written by the logger's asynchronous dispatcher, along
+     * with the messages around it.
+     *
+     * @throws InterruptedException If the test is interrupted while waiting for the rate limiter to refill
+     */
+    @Test
+    public void testAsyncErrorRateLimited() throws InterruptedException {
+        final AsyncLogDispatcher dispatcher = new AsyncLogDispatcher(8, AsyncLogDispatcher.OverflowPolicy.BLOCK);
+        final String[] log;
+
+        myLogger.setDispatcher(dispatcher).setRateLimiter(new LogRateLimiter(1, Duration.ofMillis(50)));
+
+        for (int index = 0; index < 3; index++) {
+            myLogger.error(TestConstants.ASDF);
+        }
+
+        Thread.sleep(100);
+        myLogger.error(TestConstants.ASDF);
+        dispatcher.close();
+        log = myLogStream.toString(StandardCharsets.UTF_8).split(EOL_REGEXP);
+
+        assertEquals(3, log.length);
+        assertTrue(log[1], log[1].startsWith("[freelib-async-logger] ERROR "));
+        assertTrue(log[1], log[1].endsWith("Suppressed 2 similar messages: asdf"));
+    }
+
     // End of error tests
 
     /**
@@ -1083,6 +1321,28 @@ public class LoggerTest {
         assertEquals(TestConstants.MAIN_INFO + getLoggerInfo() + TestConstants.DASH_ONE_TWO, getLog());
     }
 
+    /**
+     * Tests a structured info message that carries its message key and arguments as key/value pairs.
+     */
+    @Test
+    public void testInfoStructuredMessageKeyDetails() {
+        final ch.qos.logback.classic.Logger logger = (ch.qos.logback.classic.Logger) myLogger.getLoggerImpl();
+        final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        final List<KeyValuePair> keyValuePairs;
+
+        appender.start();
+        logger.addAppender(appender);
+
+        myLogger.setStructuredEnabled(true).info(TestConstants.TEST_VALUE_TWO, TestConstants.ONE, TestConstants.TWO);
+        keyValuePairs = appender.list.get(0).getKeyValuePairs();
+
+        assertEquals(TestConstants.MAIN_INFO + getLoggerInfo() + TestConstants.DASH_ONE_TWO, getLog());
+        assertEquals(Logger.MESSAGE_KEY, keyValuePairs.get(0).key);
+        assertEquals(TestConstants.TEST_VALUE_TWO, keyValuePairs.get(0).value);
+        assertEquals(Logger.MESSAGE_ARGS, keyValuePairs.get(1).key);
+        assertEquals(List.of(TestConstants.ONE, TestConstants.TWO), keyValuePairs.get(1).value);
+    }
+
     // End of info tests
 
     /**
@@ -2091,6 +2351,18 @@ public class LoggerTest {
         assertTrue(getLog().contains(TEST_LINE_NUM));
     }
 
+    /**
+     * Tests that line numbers can be turned off even when debugging is enabled.
+     */
+    @Test
+    public void testDebugLogWithLineNumbersDisabled() {
+        ((ch.qos.logback.classic.Logger) myLogger.getLoggerImpl()).setLevel(Level.DEBUG);
+        myLogger.setLineNumbersEnabled(false).debug(TestConstants.ASDF);
+
+        assertFalse(myLogger.isLineNumbersEnabled());
+        assertEquals(TestConstants.MAIN_DEBUG + myLogger.getName() + TestConstants.DASH_ASDF, getLog());
+    }
+
     /**
      * Tests isDebugEnabled(Marker).
      */
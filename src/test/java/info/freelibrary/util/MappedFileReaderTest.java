@@ -0,0 +1,122 @@
+package info.freelibrary.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of MappedFileReader.
+ */
+public class MappedFileReaderTest {
+
+    /** Text with characters that are encoded in one, two, three, and four bytes. */
+    private static final String TEXT = "a\u00e9\u6f22\ud83d\ude00 line\nanother \u00e9\u6f22\ud83d\ude00 line\n";
+
+    /** A file used in testing. */
+    private Path myFile;
+
+    /**
+     * Sets up the test.
+     *
+     * @throws IOException If the test's file can't be created
+     */
+    @Before
+    public void setUp() throws IOException {
+        myFile = Files.createTempFile(MappedFileReaderTest.class.getSimpleName(), ".txt");
+        Files.writeString(myFile, TEXT);
+    }
+
+    /**
+     * Cleans up after the test.
+     *
+     * @throws IOException If the test's file can't be deleted
+     */
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(myFile);
+    }
+
+    /**
+     * Tests reading a file through the default window.
+     *
+     * @throws IOException If the file can't be read
+     */
+    @Test
+    public void testRead() throws IOException {
+        assertEquals(TEXT, read(MappedFileReader.WINDOW_SIZE));
+    }
+
+    /**
+     * Tests reading a file through windows that split its multibyte characters.
+     *
+     * @throws IOException If the file can't be read
+     */
+    @Test
+    public void testReadSmallWindows() throws IOException {
+        for (int windowSize = 4; windowSize < 10; windowSize++) {
+            assertEquals(TEXT, read(windowSize));
+        }
+    }
+
+    /**
+     * Tests reading an empty file.
+     *
+     * @throws IOException If the file can't be read
+     */
+    @Test
+    public void testReadEmpty() throws IOException {
+        Files.writeString(myFile, "");
+        assertEquals("", read(MappedFileReader.WINDOW_SIZE));
+    }
+
+    /**
+     * Tests that malformed input is replaced.
+     *
+     * @throws IOException If the file can't be read
+     */
+    @Test
+    public void testReadMalformed() throws IOException {
+        final byte[] bytes = { 'a', (byte) 0xff, 'b' };
+
+        Files.write(myFile, bytes);
+        assertEquals(new String(bytes, StandardCharsets.UTF_8), read(MappedFileReader.WINDOW_SIZE));
+    }
+
+    /**
+     * Tests reading from a closed reader.
+     *
+     * @throws IOException If the reader has been closed
+     */
+    @Test(expected = IOException.class)
+    public void testReadClosed() throws IOException {
+        final Reader reader = new MappedFileReader(myFile.toFile(), StandardCharsets.UTF_8);
+
+        reader.close();
+        reader.read();
+    }
+
+    /**
+     * Reads the test file through a window of the supplied size.
+     *
+     * @param aWindowSize The size of the mapped window
+     * @return The contents of the file
+     * @throws IOException If the file can't be read
+     */
+    private String read(final int aWindowSize) throws IOException {
+        try (Reader reader = new MappedFileReader(myFile.toFile(), StandardCharsets.UTF_8, aWindowSize)) {
+            final StringWriter writer = new StringWriter();
+
+            reader.transferTo(writer);
+            return writer.toString();
+        }
+    }
+}
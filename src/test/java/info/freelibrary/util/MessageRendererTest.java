@@ -0,0 +1,99 @@
+package info.freelibrary.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.MissingResourceException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of MessageRenderer.
+ */
+public class MessageRendererTest {
+
+    /** A test bundle name. */
+    private static final String BUNDLE_NAME = "test_freelib-utils_messages";
+
+    /** A test key with one value. */
+    private static final String VALUE_ONE = "test.value.one";
+
+    /** A test key with two values. */
+    private static final String VALUE_TWO = "test.value.two";
+
+    /** A test value. */
+    private static final String ONE = "one";
+
+    /** The renderer being tested. */
+    private MessageRenderer myRenderer;
+
+    /**
+     * Sets up the testing environment.
+     */
+    @Before
+    public void setUp() {
+        myRenderer = new MessageRenderer(BUNDLE_NAME, Locale.US, Locale.FRENCH);
+    }
+
+    /**
+     * Tests getting the supported locales.
+     */
+    @Test
+    public void testGetLocales() {
+        assertEquals(List.of(Locale.US, Locale.FRENCH), myRenderer.getLocales());
+    }
+
+    /**
+     * Tests negotiating a locale from an Accept-Language header.
+     */
+    @Test
+    public void testNegotiate() {
+        assertEquals(Locale.FRENCH, myRenderer.negotiate("fr-CA,fr;q=0.8,en;q=0.5"));
+        assertEquals(Locale.US, myRenderer.negotiate("en"));
+        assertEquals(Locale.US, myRenderer.negotiate("de"));
+        assertEquals(Locale.US, myRenderer.negotiate(null));
+    }
+
+    /**
+     * Tests negotiating a locale from a header that can't be parsed.
+     */
+    @Test
+    public void testNegotiateMalformed() {
+        assertEquals(Locale.US, myRenderer.negotiate("not a header!"));
+    }
+
+    /**
+     * Tests rendering a message in a locale.
+     */
+    @Test
+    public void testRenderLocale() {
+        assertEquals("one and 2", myRenderer.render(Locale.US, VALUE_TWO, ONE, 2));
+        assertEquals("one et 2", myRenderer.render(Locale.FRENCH, VALUE_TWO, ONE, 2));
+    }
+
+    /**
+     * Tests rendering a message for an Accept-Language header.
+     */
+    @Test
+    public void testRenderAcceptLanguage() {
+        assertEquals("one et 2", myRenderer.render("fr-CA,en;q=0.5", VALUE_TWO, ONE, 2));
+    }
+
+    /**
+     * Tests rendering a message that isn't in the preferred locale.
+     */
+    @Test
+    public void testRenderFallback() {
+        assertEquals(ONE, myRenderer.render("fr", VALUE_ONE, ONE));
+    }
+
+    /**
+     * Tests rendering a message that isn't in any of the locales.
+     */
+    @Test(expected = MissingResourceException.class)
+    public void testRenderMissing() {
+        myRenderer.render("fr", "test.missing");
+    }
+}
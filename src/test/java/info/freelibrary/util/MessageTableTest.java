@@ -0,0 +1,85 @@
+package info.freelibrary.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Tests of MessageTable.
+ */
+public class MessageTableTest {
+
+    /** A test message code. */
+    private static final String CODE = "TEST-002";
+
+    /** A test message key that isn't a message code. */
+    private static final String KEY = "test.key";
+
+    /**
+     * Tests looking up message codes and other keys.
+     */
+    @Test
+    public void testGet() {
+        final MessageTable table = new MessageTable(Map.of(CODE, template("two"), "TEST-010", template("ten"), KEY,
+                template("key"), "OTHER-001", template("other")));
+
+        assertEquals("two", table.get(CODE).toString());
+        assertEquals("ten", table.get("TEST-010").toString());
+        assertEquals("key", table.get(KEY).toString());
+        assertEquals("other", table.get("OTHER-001").toString());
+        assertEquals(4, table.size());
+    }
+
+    /**
+     * Tests looking up keys that aren't in the table.
+     */
+    @Test
+    public void testGetMissing() {
+        final MessageTable table = new MessageTable(Map.of(CODE, template("two")));
+
+        assertNull(table.get("TEST-001"));
+        assertNull(table.get("TEST-999"));
+        assertNull(table.get("TEST-2"));
+        assertNull(table.get(null));
+        assertFalse(table.contains(KEY));
+        assertTrue(table.contains(CODE));
+    }
+
+    /**
+     * Tests looking up message codes that only differ by leading zeros.
+     */
+    @Test
+    public void testGetLeadingZeros() {
+        final MessageTable table = new MessageTable(Map.of(CODE, template("two"), "TEST-2", template("2")));
+
+        assertEquals("two", table.get(CODE).toString());
+        assertEquals("2", table.get("TEST-2").toString());
+    }
+
+    /**
+     * Tests combining a table with its parent.
+     */
+    @Test
+    public void testWithParent() {
+        final MessageTable parent = new MessageTable(Map.of(CODE, template("parent"), KEY, template("key")));
+        final MessageTable table = new MessageTable(Map.of(CODE, template("child"))).withParent(parent);
+
+        assertEquals("child", table.get(CODE).toString());
+        assertEquals("key", table.get(KEY).toString());
+    }
+
+    /**
+     * Compiles a test template.
+     *
+     * @param aTemplate A template string
+     * @return A compiled template
+     */
+    private static MessageTemplate template(final String aTemplate) {
+        return MessageTemplate.compile(aTemplate);
+    }
+}
@@ -0,0 +1,73 @@
+package info.freelibrary.util;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Tests of MessageTemplate.
+ */
+public class MessageTemplateTest {
+
+    /** A test template. */
+    private static final String TEMPLATE = "{} and {} or {}";
+
+    /**
+     * Tests formatting a template.
+     */
+    @Test
+    public void testFormat() {
+        assertEquals("one and two or three", MessageTemplate.compile(TEMPLATE).format("one", "two", "three"));
+    }
+
+    /**
+     * Tests formatting a template with adjacent slots.
+     */
+    @Test
+    public void testFormatAdjacentSlots() {
+        assertEquals("onetwo", MessageTemplate.compile("{}{}").format("one", "two"));
+    }
+
+    /**
+     * Tests formatting a template with object details.
+     */
+    @Test
+    public void testFormatObjects() {
+        assertEquals("1 and 2 or 3", MessageTemplate.compile(TEMPLATE).format(1, 2, 3));
+    }
+
+    /**
+     * Tests formatting a template without slots.
+     */
+    @Test
+    public void testFormatNoSlots() {
+        final MessageTemplate template = MessageTemplate.compile("no slots");
+
+        assertEquals(0, template.getSlotCount());
+        assertEquals("no slots", template.format());
+    }
+
+    /**
+     * Tests getting a template's slot count.
+     */
+    @Test
+    public void testGetSlotCount() {
+        assertEquals(3, MessageTemplate.compile(TEMPLATE).getSlotCount());
+    }
+
+    /**
+     * Tests a template's string form.
+     */
+    @Test
+    public void testToString() {
+        assertEquals(TEMPLATE, MessageTemplate.compile(TEMPLATE).toString());
+    }
+
+    /**
+     * Tests formatting a template with too few details.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testFormatTooFewDetails() {
+        MessageTemplate.compile(TEMPLATE).format("one", "two");
+    }
+}
@@ -2,9 +2,11 @@
 package info.freelibrary.util;
 
 import static info.freelibrary.util.Constants.EMPTY;
+import static info.freelibrary.util.Constants.EOL;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -14,8 +16,12 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Map;
+import java.util.Random;
 import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.Test;
 
@@ -134,6 +140,28 @@ public class StringUtilsTest {
         }
     }
 
+    /**
+     * Tests that toCharCount keeps the line breaks in its input, indenting only the lines it wraps onto.
+     */
+    @Test
+    public void testToCharCountMultipleLines() {
+        final String expected = String.join(EOL, "alpha beta", "  gamma", "delta", "  epsilon");
+
+        assertEquals(expected, StringUtils.toCharCount("alpha beta gamma\ndelta epsilon", 12));
+    }
+
+    /**
+     * Tests that toCharCount puts a word that's longer than a line on a line by itself, even though it's over the
+     * limit.
+     */
+    @Test
+    public void testToCharCountLongWord() {
+        final String word = "supercalifragilistic";
+        final String expected = String.join(EOL, "a", "  " + word, "  b");
+
+        assertEquals(expected, StringUtils.toCharCount("a " + word + " b", 8));
+    }
+
     /**
      * Tests {@code info.freelibrary.util.StringUtils#format(String, Object...)}.
      */
@@ -178,6 +206,32 @@ public class StringUtilsTest {
         assertEquals("!@!@!@source", result);
     }
 
+    /**
+     * Tests {@link StringUtils#padStart(StringBuilder, String, String, int)}.
+     */
+    @Test
+    public void testPadStartStringBuilder() {
+        final StringBuilder builder = new StringBuilder(FIRST);
+
+        assertSame(builder, StringUtils.padStart(builder, SOURCE, EXCLAMATION_AT, 3));
+        assertEquals("first!@!@!@source", builder.toString());
+    }
+
+    /**
+     * Tests {@link StringUtils#repeat(StringBuilder, char, int)} and
+     * {@link StringUtils#repeat(StringBuilder, String, int)}.
+     */
+    @Test
+    public void testRepeatStringBuilder() {
+        final StringBuilder builder = new StringBuilder();
+
+        StringUtils.repeat(builder, '~', 3);
+        StringUtils.repeat(builder, EXCLAMATION_AT, 2);
+        StringUtils.repeat(builder, FIRST, -1);
+
+        assertEquals("~~~!@!@", builder.toString());
+    }
+
     /**
      * Tests {@link StringUtils#parseIntRange(String)}.
      */
@@ -225,6 +279,61 @@ public class StringUtilsTest {
         }
     }
 
+    /**
+     * Tests {@link StringUtils#normalizeWS(String)}.
+     */
+    @Test
+    public void testNormalizeWS() {
+        assertEquals(" a b c ", StringUtils.normalizeWS(" a\t\tb \r\n c\f"));
+        assertEquals(EMPTY, StringUtils.normalizeWS(EMPTY));
+    }
+
+    /**
+     * Tests that {@link StringUtils#normalizeWS(String)} returns a string that's already normalized as is.
+     */
+    @Test
+    public void testNormalizeWSNormalized() {
+        final String normalized = " a b c ";
+
+        assertSame(normalized, StringUtils.normalizeWS(normalized));
+    }
+
+    /**
+     * Tests that {@link StringUtils#normalizeWS(String)} normalizes strings the same way as the regular expression
+     * <code>\s+</code>.
+     */
+    @Test
+    public void testNormalizeWSMatchesRegex() {
+        final char[] chars = { 'a', 'b', ' ', ' ', '\t', '\n', '\u000B', '\f', '\r', '\u001C', '\u00A0' };
+        final Random random = new Random(42);
+
+        for (int count = 0; count < 10_000; count++) {
+            final StringBuilder builder = new StringBuilder();
+
+            for (int index = random.nextInt(12); index > 0; index--) {
+                builder.append(chars[random.nextInt(chars.length)]);
+            }
+
+            final String string = builder.toString();
+
+            assertEquals(string.replaceAll("\\s+", " "), StringUtils.normalizeWS(string));
+        }
+    }
+
+    /**
+     * Tests {@link StringUtils#lines(File, java.nio.charset.Charset)}.
+     *
+     * @throws IOException If the test file can't be read
+     */
+    @Test
+    public void testLines() throws IOException {
+        final File testFile = new File("src/test/resources/80_char_test_1.txt");
+
+        try (Stream<String> lines = StringUtils.lines(testFile, StandardCharsets.UTF_8)) {
+            assertEquals(Files.readAllLines(testFile.toPath()), lines.collect(Collectors.toList()));
+        }
+    }
+
     /**
      * Tests {@link StringUtils#trimToNull(String)}.
      */
@@ -250,6 +359,35 @@ public class StringUtilsTest {
         assertEquals("five one three", StringUtils.joinKeys(map, ' '));
     }
 
+    /**
+     * Tests {@link StringUtils#joinKeys(StringBuilder, Map, char)}.
+     */
+    @Test
+    public void toKeysStringBuilder() {
+        final StringBuilder builder = new StringBuilder(FIRST).append(':');
+        final Map<String, String> map = new TreeMap<>();
+
+        StringUtils.joinKeys(builder, map, ' ');
+        map.put("one", "two");
+        map.put("three", "four");
+
+        assertEquals("first:one three", StringUtils.joinKeys(builder, map, ' ').toString());
+    }
+
+    /**
+     * Tests {@link StringUtils#toString(StringBuilder, Map)}.
+     */
+    @Test
+    public void toStringMapStringBuilder() {
+        final Map<String, String[]> map = new TreeMap<>();
+
+        map.put("a", new String[] { "1", "2" });
+        map.put("b", new String[] {});
+
+        assertEquals("a={1}{2}&b=", StringUtils.toString(map));
+        assertEquals("a={1}{2}&b=", StringUtils.toString(new StringBuilder(), map).toString());
+    }
+
     /**
      * Tests {@link StringUtils#toString(char, Object...)}.
      */
@@ -277,6 +415,18 @@ public class StringUtilsTest {
         assertEquals(ONE_21_3, StringUtils.toString(array, '~'));
     }
 
+    /**
+     * Tests {@link StringUtils#toString(StringBuilder, Object[], char)}.
+     */
+    @Test
+    public void toStringObjectArrayCharStringBuilder() {
+        final StringBuilder builder = new StringBuilder();
+        final Object[] array = { 1, 21, 3 };
+
+        StringUtils.toString(builder, new Object[] {}, '~');
+        assertEquals(ONE_21_3, StringUtils.toString(builder, array, '~').toString());
+    }
+
     /**
      * Tests {@link StringUtils#trimTo(Object, String)}.
      */
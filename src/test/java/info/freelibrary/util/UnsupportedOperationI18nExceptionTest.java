@@ -79,4 +79,17 @@ public class UnsupportedOperationI18nExceptionTest {
         }
     }
 
+    /**
+     * Tests creating a lightweight UnsupportedOperationI18nException from a root cause.
+     */
+    @Test
+    public final void testLightweightThrowable() {
+        final UnsupportedOperationI18nException exception = UnsupportedOperationI18nException.lightweight(
+                new Throwable(DETAIL), MessageCodes.BUNDLE, MessageCodes.UTIL_067, DETAIL);
+
+        assertEquals(MESSAGE, exception.getMessage());
+        assertEquals(DETAIL, exception.getCause().getMessage());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
 }
@@ -0,0 +1,113 @@
+package info.freelibrary.util;
+
+import static info.freelibrary.util.Constants.EOL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Locale;
+
+import org.junit.Test;
+
+/**
+ * Tests of WordWrapper.
+ */
+public class WordWrapperTest {
+
+    /** A test text. */
+    private static final String TEXT = "alpha beta gamma delta";
+
+    /**
+     * Tests wrapping text without indentation.
+     */
+    @Test
+    public void testWrap() {
+        assertEquals(String.join(EOL, "alpha beta", "gamma", "delta"), new WordWrapper(10).wrap(TEXT));
+    }
+
+    /**
+     * Tests wrapping text with a hanging indentation.
+     */
+    @Test
+    public void testWrapIndent() {
+        assertEquals(String.join(EOL, "alpha beta", "  gamma", "  delta"), new WordWrapper(10, "  ").wrap(TEXT));
+    }
+
+    /**
+     * Tests wrapping text with a first-line indentation and line breaks of its own.
+     */
+    @Test
+    public void testWrapParagraphs() {
+        final WordWrapper wrapper = new WordWrapper(10, "* ", "  ", Locale.ENGLISH);
+        final String expected = String.join(EOL, "* alpha", "  beta", "", "* gamma", "  delta");
+
+        assertEquals(expected, wrapper.wrap("alpha beta\n\ngamma delta"));
+        assertEquals(expected, wrapper.wrap("alpha beta\r\n\r\ngamma delta"));
+    }
+
+    /**
+     * Tests wrapping a word that's wider than a line.
+     */
+    @Test
+    public void testWrapLongWord() {
+        final String word = "supercalifragilistic";
+
+        assertEquals(String.join(EOL, "a", word, "b"), new WordWrapper(5).wrap("a " + word + " b"));
+    }
+
+    /**
+     * Tests wrapping a word that's longer than the wrapper's buffer.
+     */
+    @Test
+    public void testWrapVeryLongWord() {
+        final String word = "x".repeat(20000);
+
+        assertEquals(String.join(EOL, "a", word, "b"), new WordWrapper(5).wrap("a " + word + " b"));
+    }
+
+    /**
+     * Tests wrapping text from a reader.
+     *
+     * @throws IOException If the text can't be read
+     */
+    @Test
+    public void testWrapReader() throws IOException {
+        final WordWrapper wrapper = new WordWrapper(40, "  ");
+        final StringBuilder text = new StringBuilder();
+        final StringWriter writer = new StringWriter();
+
+        for (int index = 0; index < 10000; index++) {
+            text.append("word").append(index).append(index % 50 == 0 ? '\n' : ' ');
+        }
+
+        wrapper.wrap(new StringReader(text.toString()), writer);
+        assertEquals(wrapper.wrap(text), writer.toString());
+
+        for (final String line : writer.toString().split(EOL)) {
+            assertTrue(line, line.length() <= 40);
+        }
+    }
+
+    /**
+     * Tests wrapping text that doesn't separate its words with spaces.
+     */
+    @Test
+    public void testWrapWithoutSpaces() {
+        final String text = "\u65e5\u672c\u8a9e\u306e\u30c6\u30ad\u30b9\u30c8" +
+                "\u3092\u6298\u308a\u8fd4\u3057\u307e\u3059";
+
+        for (final String line : new WordWrapper(6, "", "", Locale.JAPANESE).wrap(text).split(EOL)) {
+            assertTrue(line, line.length() <= 6);
+        }
+    }
+
+    /**
+     * Tests creating a wrapper with a width that isn't greater than zero.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testWidth() {
+        new WordWrapper(0);
+    }
+}
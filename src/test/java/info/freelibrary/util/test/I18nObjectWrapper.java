@@ -1,6 +1,8 @@
 
 package info.freelibrary.util.test;
 
+import java.util.Enumeration;
+
 import info.freelibrary.util.I18nObject;
 
 /**
@@ -31,4 +33,12 @@ public class I18nObjectWrapper extends I18nObject {
     public int countKeys() {
         return super.countKeys();
     }
+
+    /**
+     * Gets the keys in the bundle.
+     */
+    @Override
+    public Enumeration<String> getKeys() {
+        return super.getKeys();
+    }
 }